@@ -5,13 +5,12 @@ import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
 import javafx.stage.Stage;
 
-import com.csc345.data.functionals.BiFunction;
-
 import com.csc345.core.maze_algorithms.MazeAlgorithmType;
 import com.csc345.core.solve_algorithms.SolveAlgorithmType;
 import com.csc345.core.solve_algorithms.SolveAlgorithm;
+import com.csc345.core.solve_algorithms.Heuristic;
 import com.csc345.core.maze_algorithms.MazeAlgorithm;
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.Maze;
 
 import com.csc345.gui.MazeController;
@@ -41,7 +40,7 @@ public class App extends Application {
 
     private MazeImage mazeImage;
     private MazeController mazeController;
-    private Node[] nodes;
+    private MazeGrid grid;
 
     private MazeTimer mazeTimer;
     private SolveTimer solveTimer;
@@ -63,14 +62,14 @@ public class App extends Application {
         setupMazeController();
         setupMaze(DEFAULT_MAZE_ROWS, DEFAULT_MAZE_COLS, DEFAULT_CELL_WALL_RATIO);
 
-        mazeController.setGenerateButtonHandler((rows, cols, cellWallRatio, mazeAlgorithmType, animate) -> {
-            generateMaze(rows, cols, cellWallRatio, mazeAlgorithmType, animate);
+        mazeController.setGenerateButtonHandler((rows, cols, cellWallRatio, mazeAlgorithmType, animate, stepsPerFrame) -> {
+            generateMaze(rows, cols, cellWallRatio, mazeAlgorithmType, animate, stepsPerFrame);
         });
-        mazeController.setSolveButtonHandler((solveAlgorithmType, animate) -> {
-            solveMaze(solveAlgorithmType, animate);
+        mazeController.setSolveButtonHandler((solveAlgorithmType, animate, stepsPerFrame) -> {
+            solveMaze(solveAlgorithmType, animate, stepsPerFrame);
         });
         mazeController.setClearSolutionButtonHandler(() -> {
-            mazeImage.update(nodes, null);
+            mazeImage.update(grid);
             mazeImage.redraw();
         });
         mazeController.setSetStartEndButtonHandler((startPosition, endPosition) -> {
@@ -109,19 +108,24 @@ public class App extends Application {
      * @param cellWallRatio ratio of cell size to wall size
      * @param mazeAlgorithmType type of maze generation algorithm to use
      * @param animate whether or not to animate the maze generation
+     * @param stepsPerFrame number of algorithm steps to run per animation frame
      */
     private void generateMaze(int rows, int cols, double cellWallRatio, MazeAlgorithmType mazeAlgorithmType,
-            boolean animate) {
-        if (rows <= 0 || cols <= 0 || cellWallRatio <= 0) {
+            boolean animate, int stepsPerFrame) {
+        if (rows <= 0 || cols <= 0 || cellWallRatio <= 0 || stepsPerFrame <= 0) {
             return; // catch invalid input
         }
 
+        if (mazeTimer != null) {
+            mazeTimer.stop(); // stop the last maze, which may still be changing
+        }
+
         setupMaze(rows, cols, cellWallRatio); // set up new maze image
 
-        nodes = Maze.createNodes(rows, cols); // create new nodes
-        MazeAlgorithm mazeAlgorithm = mazeAlgorithmType.getAlgorithm(nodes); // initialize maze algorithm
+        grid = Maze.createGrid(rows, cols); // create new maze grid
+        MazeAlgorithm mazeAlgorithm = mazeAlgorithmType.getAlgorithm(grid); // initialize maze algorithm
 
-        mazeTimer = new MazeTimer(mazeImage, mazeAlgorithm, animate, null); // initialize maze timer
+        mazeTimer = new MazeTimer(mazeImage, mazeAlgorithm, animate, stepsPerFrame, null); // initialize maze timer
         mazeTimer.start(); // start maze timer
     }
     
@@ -130,25 +134,31 @@ public class App extends Application {
      * 
      * @param solveAlgorithmType
      * @param animate
+     * @param stepsPerFrame
      */
-    private void solveMaze(SolveAlgorithmType solveAlgorithmType, boolean animate) {
-        if (nodes == null || mazeTimer == null) {
+    private void solveMaze(SolveAlgorithmType solveAlgorithmType, boolean animate, int stepsPerFrame) {
+        if (stepsPerFrame <= 0) {
+            return; // catch invalid input
+        }
+        if (grid == null || mazeTimer == null) {
             return; // catch undefined maze
         }
         if (!mazeTimer.isSolved()) {
-            return; // catch unsolved maze
+            if (!mazeTimer.isEndless()) {
+                return; // catch unsolved maze
+            }
+            mazeTimer.stop(); // freeze a maze that would never finish, and solve it as it is now
         }
 
         if (!mazeImage.isStartEndSet()) {
             mazeController.runSetStartEndButtonHandler(); // if necessary, set start and end positions
         }
 
-        int cols = mazeImage.getCols();
-        BiFunction<Integer, Integer, Double> heuristicFunction = Maze.createHeuristic(cols); // create heuristic function
+        Heuristic heuristic = Heuristic.defaultValue(); // heuristic for A-Star, bound to the end position below
 
-        SolveAlgorithm solveAlgorithm = solveAlgorithmType.getAlgorithm(nodes, mazeImage.getStartId(), mazeImage.getEndId(), heuristicFunction); // initialize solve algorithm
+        SolveAlgorithm solveAlgorithm = solveAlgorithmType.getAlgorithm(grid, mazeImage.getStartId(), mazeImage.getEndId(), heuristic); // initialize solve algorithm
 
-        solveTimer = new SolveTimer(mazeImage, solveAlgorithm, animate); // initialize solve timer
+        solveTimer = new SolveTimer(mazeImage, solveAlgorithm, animate, stepsPerFrame); // initialize solve timer
         solveTimer.start(); // start solve timer
     }
 
@@ -159,7 +169,7 @@ public class App extends Application {
      * @param endPosition maze end position
      */
     private void setStartEnd(MazePosition startPosition, MazePosition endPosition) {
-        if (nodes == null) {
+        if (grid == null) {
             return; // catch undefined maze
         }
 
@@ -0,0 +1,513 @@
+package com.csc345;
+
+import com.csc345.core.Algorithm;
+import com.csc345.core.Maze;
+import com.csc345.core.MazeGrid;
+import com.csc345.core.State;
+import com.csc345.core.maze_algorithms.RowMazeAlgorithm;
+import com.csc345.core.maze_algorithms.algorithms.Backtracking;
+import com.csc345.core.maze_algorithms.algorithms.BinaryTree;
+import com.csc345.core.maze_algorithms.algorithms.HuntAndKill;
+import com.csc345.core.maze_algorithms.algorithms.Kruskals;
+import com.csc345.core.maze_algorithms.algorithms.ParallelKruskals;
+import com.csc345.core.maze_algorithms.algorithms.RecursiveDivision;
+import com.csc345.core.maze_algorithms.algorithms.Sidewinder;
+import com.csc345.core.solve_algorithms.Heuristic;
+import com.csc345.core.solve_algorithms.SolveAlgorithm;
+import com.csc345.core.solve_algorithms.SolveAlgorithmType;
+import com.csc345.core.solve_algorithms.algorithms.AStar;
+import com.csc345.core.solve_algorithms.algorithms.Dijkstra;
+import com.csc345.data.DenseIntDoubleMap;
+import com.csc345.data.DenseIntIntMap;
+import com.csc345.data.HashMap;
+import com.csc345.data.PriorityQueue;
+import com.csc345.data.functionals.BiFunction;
+import com.csc345.data.functionals.Function;
+import com.csc345.data.functionals.IntIntToDoubleFunction;
+import com.csc345.data.functionals.IntToDoubleFunction;
+import com.csc345.data.functionals.Runnable;
+import com.csc345.data.types.RowCol;
+
+/**
+ * Main class for the program's console benchmarks.
+ *
+ * Each benchmark is picked by name on the command line, for example:
+ * {@code mvn compile exec:java -Dexec.mainClass=com.csc345.Benchmark -Dexec.args="hashmap"}.
+ * Every measurement is preceded by an unreported warm-up run so the JIT has compiled the hot code.
+ * Larger benchmarks may need a bigger heap, set through {@code MAVEN_OPTS="-Xmx8g"}.
+ */
+public class Benchmark {
+
+    private static final int HASHMAP_LOOKUPS = 2_000_000;
+    private static final int[] DEFAULT_MAZE_SIDES = {1_000, 4_000}; // 1M and 16M cells
+    private static final int HEURISTIC_SIDE = 2_000;
+    private static final int HEURISTIC_PASSES = 10;
+    private static final int DEFAULT_KRUSKAL_SIDE = 2_000;
+    private static final int[] BENCHMARK_THREADS = {1, 2, 4, 8, 16}; // thread counts for the parallel generators
+    private static final long BENCHMARK_SEED = 345; // seed for every seeded generator, so runs are comparable
+    private static final int DEFAULT_DIVISION_SIDE = 4_000;
+    private static final int DEFAULT_ROWS_SIDE = 8_000; // 64M cells
+    private static final int DEFAULT_MEMORY_SIDE = 10_000; // 100M cells
+
+    /**
+     * Benchmarks are only run through main, so there are no instances.
+     */
+    private Benchmark() {
+    }
+
+    /**
+     * Runs the benchmark named by the first argument.
+     *
+     * @param args benchmark name, followed by any benchmark options
+     */
+    public static void main(String[] args) {
+        String name = args.length > 0 ? args[0] : "";
+
+        switch (name) {
+            case "hashmap":
+                benchmarkHashMap();
+                break;
+            case "dijkstra":
+                benchmarkDijkstra(mazeSides(args));
+                break;
+            case "heuristic":
+                benchmarkHeuristic();
+                break;
+            case "kruskal":
+                benchmarkKruskal(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_KRUSKAL_SIDE);
+                break;
+            case "division":
+                benchmarkDivision(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DIVISION_SIDE);
+                break;
+            case "rows":
+                benchmarkRows(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROWS_SIDE);
+                break;
+            case "memory":
+                benchmarkMemory(args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MEMORY_SIDE);
+                break;
+            default:
+                System.out.println("Usage: Benchmark <hashmap | dijkstra [side ...] | heuristic | kruskal [side] | division [side] | rows [side] | memory [side]>");
+        }
+    }
+
+    /**
+     * Shows that HashMap lookups stay constant-time as the map grows from 10^3 to 10^7 entries.
+     */
+    private static void benchmarkHashMap() {
+        System.out.println("entries      ns/lookup");
+        for (int entries = 1_000; entries <= 10_000_000; entries *= 10) {
+            HashMap<Integer, Integer> map = new HashMap<>();
+            Integer value = 0;
+            for (int i = 0; i < entries; i++) {
+                map.put(scatter(i), value);
+            }
+
+            int size = entries;
+            Runnable lookups = () -> {
+                int found = 0;
+                for (int i = 0; i < HASHMAP_LOOKUPS; i++) {
+                    if (map.get(scatter((int) ((i * 2654435761L) % size))) != null) {
+                        found++;
+                    }
+                }
+                if (found != HASHMAP_LOOKUPS) {
+                    throw new IllegalStateException("missing keys in map");
+                }
+            };
+
+            double nanos = time(lookups);
+            System.out.printf("%-12d %.1f%n", entries, nanos / HASHMAP_LOOKUPS);
+        }
+    }
+
+    /**
+     * Compares the bucket queue Dijkstra solver, and the A* solver over IndexedMinHeap given a zero heuristic,
+     * with the PriorityQueue path Dijkstra's algorithm used to run on. All three solve the same square maze
+     * corner to corner.
+     *
+     * @param sides side lengths of the mazes to solve
+     */
+    private static void benchmarkDijkstra(int[] sides) {
+        System.out.println("cells        queue ms     heap ms      buckets ms");
+        for (int side : sides) {
+            MazeGrid grid = new MazeGrid(side, side);
+            new Backtracking(grid).finishImmediately();
+            int endId = grid.size() - 1;
+
+            double queueNanos = time(() -> solve(new PriorityQueueDijkstra(grid, 0, endId)));
+            double heapNanos = time(() -> solve(new AStar(grid, 0, endId, (a, b) -> 0.0)));
+            double bucketNanos = time(() -> solve(new Dijkstra(grid, 0, endId)));
+            System.out.printf("%-12d %-12.1f %-12.1f %.1f%n", grid.size(), queueNanos / 1e6, heapNanos / 1e6, bucketNanos / 1e6);
+        }
+    }
+
+    /**
+     * Compares the cost of one heuristic call: the boxed RowCol function A-Star used to take,
+     * the primitive two-id function from Maze.createHeuristic, and each goal-bound Heuristic.
+     * Then times A-Star itself with each Heuristic, since a weaker estimate means more nodes to open.
+     */
+    private static void benchmarkHeuristic() {
+        int cols = HEURISTIC_SIDE;
+        int size = HEURISTIC_SIDE * HEURISTIC_SIDE;
+        int goalId = size - 1;
+        int calls = size * HEURISTIC_PASSES;
+
+        BiFunction<Integer, Integer, Double> boxed = (startNodeId, endNodeId) -> {
+            RowCol startRowCol = RowCol.idToRowCol(startNodeId, cols);
+            RowCol endRowCol = RowCol.idToRowCol(endNodeId, cols);
+
+            return (double) (Math.abs(startRowCol.getRow() - endRowCol.getRow()) + Math.abs(startRowCol.getCol() - endRowCol.getCol()));
+        };
+        IntIntToDoubleFunction primitive = Maze.createHeuristic(cols);
+
+        System.out.println("heuristic            ns/call");
+        double boxedNanos = time(() -> {
+            double sum = 0;
+            for (int pass = 0; pass < HEURISTIC_PASSES; pass++) {
+                for (int id = 0; id < size; id++) {
+                    sum += boxed.apply(id, goalId);
+                }
+            }
+            requirePositive(sum);
+        });
+        System.out.printf("%-20s %.2f%n", "boxed RowCol", boxedNanos / calls);
+
+        double primitiveNanos = time(() -> {
+            double sum = 0;
+            for (int pass = 0; pass < HEURISTIC_PASSES; pass++) {
+                for (int id = 0; id < size; id++) {
+                    sum += primitive.apply(id, goalId);
+                }
+            }
+            requirePositive(sum);
+        });
+        System.out.printf("%-20s %.2f%n", "primitive two-id", primitiveNanos / calls);
+
+        for (Heuristic heuristic : Heuristic.values()) {
+            IntToDoubleFunction toGoal = heuristic.toGoal(cols, goalId);
+            double nanos = time(() -> {
+                double sum = 0;
+                for (int pass = 0; pass < HEURISTIC_PASSES; pass++) {
+                    for (int id = 0; id < size; id++) {
+                        sum += toGoal.apply(id);
+                    }
+                }
+                requirePositive(sum);
+            });
+            System.out.printf("%-20s %.2f%n", heuristic, nanos / calls);
+        }
+
+        MazeGrid grid = new MazeGrid(HEURISTIC_SIDE, HEURISTIC_SIDE);
+        new Backtracking(grid).finishImmediately();
+
+        System.out.println();
+        System.out.println("A-Star with          ms");
+        double boxedSolveNanos = time(() -> solve(SolveAlgorithmType.ASTAR.getAlgorithmBoxed(grid, 0, goalId, boxed)));
+        System.out.printf("%-20s %.1f%n", "boxed RowCol", boxedSolveNanos / 1e6);
+        for (Heuristic heuristic : Heuristic.values()) {
+            double nanos = time(() -> solve(SolveAlgorithmType.ASTAR.getAlgorithm(grid, 0, goalId, heuristic)));
+            System.out.printf("%-20s %.1f%n", heuristic, nanos / 1e6);
+        }
+    }
+
+    /**
+     * Compares sequential Kruskal generation with tiled parallel generation on 1 to 16 threads,
+     * and checks that every thread count carves the same maze.
+     *
+     * @param side side length of the square maze
+     */
+    private static void benchmarkKruskal(int side) {
+        double sequentialNanos = time(() -> new Kruskals(new MazeGrid(side, side), BENCHMARK_SEED).finishImmediately());
+        System.out.printf("cells %d, %d processors%n", side * side, Runtime.getRuntime().availableProcessors());
+        System.out.printf("%-12s %-12.1f%n", "sequential", sequentialNanos / 1e6);
+
+        System.out.println("threads      ms           speedup");
+        MazeGrid reference = null;
+        for (int threads : BENCHMARK_THREADS) {
+            MazeGrid[] result = new MazeGrid[1];
+            double nanos = time(() -> {
+                result[0] = new MazeGrid(side, side);
+                ParallelKruskals kruskals = new ParallelKruskals(result[0], BENCHMARK_SEED);
+                kruskals.setParallelism(threads);
+                kruskals.finishImmediately();
+            });
+            System.out.printf("%-12d %-12.1f %.2fx%n", threads, nanos / 1e6, sequentialNanos / nanos);
+
+            if (reference == null) {
+                reference = result[0];
+            } else {
+                for (int id = 0; id < reference.size(); id++) {
+                    if (reference.getOpenings(id) != result[0].getOpenings(id)) {
+                        throw new IllegalStateException(threads + " threads carved a different maze");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Times recursive division on 1 to 16 threads, and checks that every thread count carves the same maze.
+     *
+     * @param side side length of the square maze
+     */
+    private static void benchmarkDivision(int side) {
+        benchmarkThreads(side, (grid, threads) -> {
+            RecursiveDivision division = new RecursiveDivision(grid, BENCHMARK_SEED);
+            division.setParallelism(threads);
+            return division;
+        });
+    }
+
+    /**
+     * Times the row-parallel binary tree and sidewinder generators on 1 to 16 threads, in cells per second,
+     * and checks that every thread count carves the same maze.
+     *
+     * @param side side length of the square maze
+     */
+    private static void benchmarkRows(int side) {
+        System.out.println("binary tree");
+        benchmarkThreads(side, (grid, threads) -> {
+            RowMazeAlgorithm binaryTree = new BinaryTree(grid, BENCHMARK_SEED);
+            binaryTree.setParallelism(threads);
+            return binaryTree;
+        });
+        System.out.println("sidewinder");
+        benchmarkThreads(side, (grid, threads) -> {
+            RowMazeAlgorithm sidewinder = new Sidewinder(grid, BENCHMARK_SEED);
+            sidewinder.setParallelism(threads);
+            return sidewinder;
+        });
+    }
+
+    /**
+     * Compares the heap held by Backtracking and hunt-and-kill once they've generated the same size of maze.
+     * The grid and the states take one byte per cell for both, so the difference is Backtracking's stack.
+     *
+     * @param side side length of the square maze
+     */
+    private static void benchmarkMemory(int side) {
+        System.out.printf("cells %d%n", (long) side * side);
+        System.out.println("algorithm       heap MB      ms");
+        benchmarkMemory("backtracking", side, grid -> new Backtracking(grid, BENCHMARK_SEED));
+        benchmarkMemory("hunt and kill", side, grid -> new HuntAndKill(grid, BENCHMARK_SEED));
+    }
+
+    /**
+     * Measures the heap held by one generator and its grid once it's finished, without a warm-up run,
+     * after a full collection so that garbage and earlier runs don't count.
+     *
+     * @param name name to print
+     * @param side side length of the square maze
+     * @param generator creates the generator for a grid
+     */
+    private static void benchmarkMemory(String name, int side, Function<MazeGrid, Algorithm> generator) {
+        long before = usedHeap();
+        Algorithm algorithm = generator.apply(new MazeGrid(side, side));
+        long start = System.nanoTime();
+        algorithm.finishImmediately();
+        long nanos = System.nanoTime() - start;
+        long held = usedHeap() - before;
+
+        System.out.printf("%-15s %-12.1f %.1f%n", name, held / (double) (1 << 20), nanos / 1e6);
+        if (!algorithm.isFinished()) {
+            throw new IllegalStateException(name + " didn't finish");
+        }
+    }
+
+    /**
+     * Returns the heap in use after a full collection.
+     *
+     * @return used heap in bytes
+     */
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Times a parallel generator on 1 to 16 threads, and checks that every thread count carves the same maze.
+     *
+     * @param side side length of the square maze
+     * @param generator creates the generator for a grid, running on a given number of threads
+     */
+    private static void benchmarkThreads(int side, BiFunction<MazeGrid, Integer, Algorithm> generator) {
+        long cells = (long) side * side;
+        System.out.printf("cells %d, %d processors%n", cells, Runtime.getRuntime().availableProcessors());
+        System.out.println("threads      ms           speedup      Mcells/s");
+        MazeGrid reference = null;
+        double singleNanos = 0;
+        for (int threads : BENCHMARK_THREADS) {
+            MazeGrid[] result = new MazeGrid[1];
+            int parallelism = threads;
+            double nanos = time(() -> {
+                result[0] = new MazeGrid(side, side);
+                generator.apply(result[0], parallelism).finishImmediately();
+            });
+            if (singleNanos == 0) {
+                singleNanos = nanos;
+            }
+            System.out.printf("%-12d %-12.1f %-12.2f %.1f%n", threads, nanos / 1e6, singleNanos / nanos, cells * 1e3 / nanos);
+
+            if (reference == null) {
+                reference = result[0];
+            } else {
+                for (int id = 0; id < reference.size(); id++) {
+                    if (reference.getOpenings(id) != result[0].getOpenings(id)) {
+                        throw new IllegalStateException(threads + " threads carved a different maze");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Throws if a benchmark's checksum isn't positive, which also keeps the JIT from dropping the loop that made it.
+     *
+     * @param sum checksum of a benchmark loop
+     */
+    private static void requirePositive(double sum) {
+        if (!(sum > 0)) {
+            throw new IllegalStateException("unexpected checksum " + sum);
+        }
+    }
+
+    /**
+     * Runs a solver to completion and checks that it found a path.
+     *
+     * @param solver the solver to run
+     */
+    private static void solve(SolveAlgorithm solver) {
+        solver.finishImmediately();
+        if (solver.getPath().size() == 0) {
+            throw new IllegalStateException("no path found");
+        }
+    }
+
+    /**
+     * Reads maze side lengths from the arguments after the benchmark name, or returns the defaults.
+     *
+     * @param args command line arguments
+     * @return side lengths of the mazes to benchmark
+     */
+    private static int[] mazeSides(String[] args) {
+        if (args.length < 2) {
+            return DEFAULT_MAZE_SIDES;
+        }
+        int[] sides = new int[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            sides[i - 1] = Integer.parseInt(args[i]);
+        }
+        return sides;
+    }
+
+    /**
+     * Maps a sequential index to a key whose hash code is spread across the whole int range,
+     * including negative values.
+     *
+     * @param i sequential index
+     * @return scattered key
+     */
+    private static int scatter(int i) {
+        return i * 0x9E3779B9;
+    }
+
+    /**
+     * Times a benchmark body after one unreported warm-up run.
+     *
+     * @param body the code to time
+     * @return elapsed wall-clock time in nanoseconds
+     */
+    private static double time(Runnable body) {
+        body.run();
+        long start = System.nanoTime();
+        body.run();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Dijkstra's algorithm the way it ran before IndexedMinHeap and BucketQueue: over the generic PriorityQueue,
+     * with boxed Double scores. A node is inserted again whenever its score drops, and entries whose node was
+     * already given a lower score are skipped when they're polled. Only kept as the baseline for the Dijkstra benchmark.
+     */
+    private static class PriorityQueueDijkstra extends SolveAlgorithm {
+        private final DenseIntIntMap cameFrom;
+        private final DenseIntDoubleMap gScores;
+        private final PriorityQueue<QueueEntry, Double> openQueue;
+
+        /**
+         * Sets up the search with a start and an end node.
+         *
+         * @param grid The grid of the maze.
+         * @param startId The ID of the start node.
+         * @param endId The ID of the end node.
+         */
+        PriorityQueueDijkstra(MazeGrid grid, int startId, int endId) {
+            super(grid, startId, endId);
+            cameFrom = new DenseIntIntMap(grid.size());
+            gScores = new DenseIntDoubleMap(grid.size());
+            openQueue = new PriorityQueue<>(entry -> entry.score);
+
+            gScores.put(startId, 0.0);
+            openQueue.insert(new QueueEntry(startId, 0.0));
+            changeState(startId, State.VISITING);
+        }
+
+        /**
+         * Takes the open node with the lowest score, skipping stale entries, and shortens the scores
+         * of its connections through it.
+         *
+         * @return true if the end node is reached or the open queue is empty, false otherwise.
+         */
+        @Override
+        protected boolean loopOnceInternal() {
+            QueueEntry current;
+            do {
+                if (openQueue.isEmpty()) {
+                    return true;
+                }
+                current = openQueue.poll();
+            } while (current.score > gScores.getOrDefault(current.id, Double.POSITIVE_INFINITY));
+
+            if (current.id == endId) {
+                this.path = reconstructPath(cameFrom, endId);
+                return true;
+            }
+
+            for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+                if (!grid.isOpen(current.id, direction)) {
+                    continue;
+                }
+                int connectionId = grid.neighbor(current.id, direction);
+                double tentativeGScore = current.score + 1; // 1 is the distance between two nodes
+
+                if (tentativeGScore < gScores.getOrDefault(connectionId, Double.POSITIVE_INFINITY)) {
+                    cameFrom.put(connectionId, current.id);
+                    gScores.put(connectionId, tentativeGScore);
+                    openQueue.insert(new QueueEntry(connectionId, tentativeGScore));
+                    changeState(connectionId, State.VISITING);
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A node in the baseline Dijkstra's priority queue, with the score it had when it was inserted.
+     */
+    private static class QueueEntry {
+        final int id;
+        final double score;
+
+        /**
+         * Create an entry.
+         *
+         * @param id id of the node
+         * @param score the node's score when it was inserted
+         */
+        QueueEntry(int id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+}
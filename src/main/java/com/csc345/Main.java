@@ -1,10 +1,11 @@
 package com.csc345;
 
 import com.csc345.core.Maze;
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.maze_algorithms.MazeAlgorithmType;
 import com.csc345.core.maze_algorithms.MazeAlgorithm;
 import com.csc345.core.solve_algorithms.SolveAlgorithmType;
+import com.csc345.core.solve_algorithms.Heuristic;
 import com.csc345.core.solve_algorithms.SolveAlgorithm;
 import com.csc345.data.List;
 import com.csc345.data.types.RowCol;
@@ -26,22 +27,22 @@ public class Main {
         // example programmatic maze creation and solving
         
         RowCol mazeSize = new RowCol(10, 10);
-        Node[] nodes = Maze.createNodes(mazeSize.getRow(), mazeSize.getCol());
+        MazeGrid grid = Maze.createGrid(mazeSize.getRow(), mazeSize.getCol());
         
-        Maze.printMaze(nodes, mazeSize.getCol());
+        Maze.printMaze(grid);
 
-        MazeAlgorithm backtracking = MazeAlgorithmType.BACKTRACKING.getAlgorithm(nodes);
+        MazeAlgorithm backtracking = MazeAlgorithmType.BACKTRACKING.getAlgorithm(grid);
         backtracking.finishImmediately();
 
-        Maze.printMaze(nodes, mazeSize.getCol());
+        Maze.printMaze(grid);
 
-        SolveAlgorithm aStar = SolveAlgorithmType.ASTAR.getAlgorithm(nodes, 0, nodes.length - 1, Maze.createHeuristic(mazeSize.getCol()));
+        SolveAlgorithm aStar = SolveAlgorithmType.ASTAR.getAlgorithm(grid, 0, grid.size() - 1, Heuristic.MANHATTAN);
 
         aStar.finishImmediately();
 
         List<Integer> path = aStar.getPath();
         
-        Maze.printMazeSolution(path, nodes, mazeSize.getCol());
+        Maze.printMazeSolution(path, grid);
 
     }
 }
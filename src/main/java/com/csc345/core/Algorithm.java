@@ -1,26 +1,38 @@
 package com.csc345.core;
 
+import java.util.Arrays;
+
+import com.csc345.data.functionals.IntConsumer;
+
 /**
  * An abstract base class for a maze-generating maze-solving algorithm.
  * 
- * All algorithms store nodes and states, as well as a boolean flag to indicate if the algorithm is finished.
+ * All algorithms store the maze's grid and states, as well as a boolean flag to indicate if the algorithm is finished.
+ * States are stored as one byte per node, holding the State's ordinal, and start out UNVISITED.
+ * Algorithms can also track which nodes change, so that a renderer only has to redraw those after each step.
  * All algorithms can bew looped once, or finished immediately.
  */
 public abstract class Algorithm {
 
-    protected Node[] nodes;
-    protected State[] states;
+    protected MazeGrid grid;
+    private byte[] states; // ordinal of each node's State
+    private ChangeJournal changes; // nodes whose state or connections changed, or null if not tracking
+
+    private static final State[] STATES = State.values(); // States by ordinal, so reads don't copy values()
 
     private boolean isFinished = false;
 
+    private static final int STEPS_PER_TIME_CHECK = 64; // steps between clock reads in loopFor
+
     /**
-     * Initialize a new Algorithm for a given set of nodes that represents a maze.
+     * Initialize a new Algorithm for a given grid that represents a maze.
+     * Nothing per cell is allocated beyond the state store.
      * 
-     * @param nodes the nodes that represent the maze
+     * @param grid the grid that represents the maze
      */
-    public Algorithm(Node[] nodes) {
-        this.nodes = nodes;
-        this.states = new State[nodes.length];
+    public Algorithm(MazeGrid grid) {
+        this.grid = grid;
+        this.states = new byte[grid.size()];
     }
 
     /**
@@ -40,13 +52,45 @@ public abstract class Algorithm {
         isFinished = loopOnceInternal();
     }
 
+    /**
+     * Loop the algorithm up to a given number of times, stopping early if it finishes.
+     * 
+     * @param maxSteps the most steps to run
+     * @return the number of steps run
+     */
+    public int loopMany(int maxSteps) {
+        int steps = 0;
+        while (steps < maxSteps && !isFinished) {
+            isFinished = loopOnceInternal();
+            steps++;
+        }
+        return steps;
+    }
+
+    /**
+     * Loop the algorithm until a time budget is used up, stopping early if it finishes.
+     * The clock is only read every few steps, so the budget can be overrun by a few steps.
+     * 
+     * @param nanoBudget the time to loop for, in nanoseconds
+     * @return the number of steps run
+     */
+    public int loopFor(long nanoBudget) {
+        long deadline = System.nanoTime() + nanoBudget;
+        int steps = 0;
+        do {
+            steps += loopMany(STEPS_PER_TIME_CHECK);
+        } while (!isFinished && System.nanoTime() - deadline < 0);
+        return steps;
+    }
+
     /**
      * Finish the algorithm immediately.
      */
     public void finishImmediately() {
-        do {
-            loopOnce();
-        } while (!isFinished);
+        if (!isFinished) {
+            finishInternal();
+            isFinished = true;
+        }
     }
 
     /**
@@ -56,6 +100,16 @@ public abstract class Algorithm {
      */
     abstract protected boolean loopOnceInternal();
 
+    /**
+     * Run the algorithm to the end. By default this loops until a loop reports the algorithm is finished,
+     * but subclasses can override it with a faster way to finish when no one is watching each step.
+     */
+    protected void finishInternal() {
+        while (!loopOnceInternal()) {
+            // keep looping
+        }
+    }
+
     /**
      * Change the state of a node.
      * 
@@ -63,24 +117,84 @@ public abstract class Algorithm {
      * @param state new state of the node
      */
     protected void changeState(int id, State state) {
-        this.states[id] = state;
+        this.states[id] = (byte) state.ordinal();
+        if (changes != null) {
+            changes.record(id);
+        }
+    }
+
+    /**
+     * Change the state of every node.
+     * 
+     * @param state new state of all nodes
+     */
+    protected void changeAllStates(State state) {
+        Arrays.fill(states, (byte) state.ordinal());
+        if (changes != null) {
+            for (int id = 0; id < states.length; id++) {
+                changes.record(id);
+            }
+        }
+    }
+
+    /**
+     * Start tracking which nodes change, whether by state or by connection, from this point on.
+     * The grid reports connection changes to the most recent algorithm that tracks changes on it.
+     */
+    public void trackChanges() {
+        if (changes == null) {
+            changes = new ChangeJournal(states.length);
+            grid.setJournal(changes);
+        }
+    }
+
+    /**
+     * Returns whether changes are being tracked, in which case every change must go through changeState or the grid.
+     * 
+     * @return whether changes are being tracked
+     */
+    protected boolean isTrackingChanges() {
+        return changes != null;
+    }
+
+    /**
+     * Runs a consumer for every node that changed since the last drain, then forgets the changes.
+     * Each changed node is passed once, no matter how many times it changed. Does nothing if changes aren't tracked.
+     * 
+     * @param action the consumer to be passed all changed node ids
+     */
+    public void drainChanges(IntConsumer action) {
+        if (changes != null) {
+            changes.drain(action);
+        }
+    }
+
+    /**
+     * Returns the State of a node.
+     * 
+     * @param id id of the node
+     * @return current State of the node
+     */
+    public State getState(int id) {
+        return STATES[states[id]];
     }
 
     /**
-     * Returns all States for the nodes in the maze.
+     * Returns the grid that represents the maze.
      * 
-     * @return array of States for the nodes in the maze
+     * @return the maze's grid
      */
-    public State[] getStates() {
-        return states;
+    public MazeGrid getGrid() {
+        return grid;
     }
 
     /**
-     * Returns all Nodes in the maze.
+     * Returns all Nodes in the maze. The Nodes are views of the grid, created on every call,
+     * so algorithms should use the grid directly.
      * 
      * @return array of Nodes in the maze
      */
     public Node[] getNodes() {
-        return nodes;
+        return grid.getNodes();
     }
 }
@@ -0,0 +1,62 @@
+package com.csc345.core;
+
+import com.csc345.data.functionals.IntConsumer;
+
+/**
+ * Records the ids of cells that changed since the journal was last drained.
+ *
+ * Each id is recorded at most once between drains: a bitset marks the recorded ids,
+ * and the ids themselves are kept in order in a buffer that grows as needed and is reused after every drain.
+ * Recording is O(1) and draining is O(changes), so consumers never need to scan the whole maze.
+ */
+class ChangeJournal {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private long[] recorded; // bit id is set when id is in the buffer
+    private int[] buffer = new int[INITIAL_CAPACITY]; // recorded ids, in the order they first changed
+    private int size;
+
+    /**
+     * Initialize a new, empty journal for cell ids in the range {@code 0..capacity-1}.
+     *
+     * @param capacity the number of cells
+     */
+    ChangeJournal(int capacity) {
+        recorded = new long[(capacity + 63) >>> 6];
+    }
+
+    /**
+     * Records that a cell changed.
+     *
+     * @param id id of the cell
+     */
+    void record(int id) {
+        long bit = 1L << id; // shifts use the low 6 bits of id
+        int word = id >>> 6;
+        if ((recorded[word] & bit) != 0) {
+            return;
+        }
+        recorded[word] |= bit;
+
+        if (size == buffer.length) {
+            int[] newBuffer = new int[buffer.length * 2];
+            System.arraycopy(buffer, 0, newBuffer, 0, size);
+            buffer = newBuffer;
+        }
+        buffer[size++] = id;
+    }
+
+    /**
+     * Runs a consumer for every recorded cell, then empties the journal.
+     *
+     * @param action the consumer to be passed all changed ids
+     */
+    void drain(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            int id = buffer[i];
+            recorded[id >>> 6] &= ~(1L << id);
+            action.accept(id);
+        }
+        size = 0;
+    }
+}
@@ -0,0 +1,210 @@
+package com.csc345.core;
+
+import com.csc345.data.LinkedListSet;
+import com.csc345.data.SplittableRandom;
+import com.csc345.data.functionals.Condition;
+import com.csc345.data.functionals.Consumer;
+
+/**
+ * A LinkedListSet view of one cell's neighbors or connections in a MazeGrid.
+ *
+ * Nodes created by a MazeGrid use these views so that code written against Node sets runs on the grid.
+ * Nothing is stored in the view itself: every call reads the grid, and adding or removing a connection
+ * opens or closes the wall in the grid.
+ */
+class GridCellSet extends LinkedListSet<Integer> {
+    private final MazeGrid grid;
+    private final int id;
+    private final boolean connectionsOnly;
+
+    /**
+     * Initialize a new view of a cell.
+     *
+     * @param grid the grid that holds the maze
+     * @param id id of the cell
+     * @param connectionsOnly true to view the cell's connections, false to view its neighbors
+     */
+    GridCellSet(MazeGrid grid, int id, boolean connectionsOnly) {
+        this.grid = grid;
+        this.id = id;
+        this.connectionsOnly = connectionsOnly;
+    }
+
+    /**
+     * Connects the cell to a neighbor. Only supported for connection views.
+     *
+     * @param data id of the neighbor to connect to
+     */
+    @Override
+    public void add(Integer data) {
+        requireConnectionsOnly();
+        grid.connect(id, data);
+    }
+
+    /**
+     * Returns whether a given cell is a neighbor, or a connection, of this cell.
+     *
+     * @param data id of the cell to check for
+     * @return whether the cell is in the view
+     */
+    @Override
+    public boolean contains(Integer data) {
+        int direction = grid.direction(id, data);
+        return direction >= 0 && includes(direction);
+    }
+
+    /**
+     * Disconnects the cell from a neighbor. Only supported for connection views.
+     *
+     * @param data id of the neighbor to disconnect from
+     */
+    @Override
+    public void remove(Integer data) {
+        requireConnectionsOnly();
+        if (contains(data)) {
+            grid.disconnect(id, data);
+        }
+    }
+
+    /**
+     * Print all values in the view
+     */
+    @Override
+    public void printSet() {
+        forEach(data -> System.out.println(data));
+    }
+
+    /**
+     * Run a consumer for all cells in the view
+     *
+     * @param action the consumer to be passed all cell ids
+     */
+    @Override
+    public void forEach(Consumer<Integer> action) {
+        for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+            int neighborId = grid.neighbor(id, direction);
+            if (neighborId >= 0 && includes(direction)) {
+                action.accept(neighborId);
+            }
+        }
+    }
+
+    /**
+     * Filter the view according to a given condition
+     *
+     * @param condition the condition to apply to all cell ids
+     * @return the filtered set, which is a regular LinkedListSet
+     */
+    @Override
+    public LinkedListSet<Integer> filter(Condition<Integer> condition) {
+        LinkedListSet<Integer> filteredSet = new LinkedListSet<>();
+        forEach(data -> {
+            if (condition.test(data)) {
+                filteredSet.add(data);
+            }
+        });
+        return filteredSet;
+    }
+
+    /**
+     * Counts the cells in the view that match a given condition.
+     *
+     * @param condition the condition to apply to all cell ids
+     * @return the number of matching cells
+     */
+    @Override
+    public int countMatching(Condition<Integer> condition) {
+        int count = 0;
+        for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+            int neighborId = grid.neighbor(id, direction);
+            if (neighborId >= 0 && includes(direction) && condition.test(neighborId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get a random cell among those in the view that match a given condition, using a given generator.
+     * Returns null if none match.
+     *
+     * @param condition the condition to apply to all cell ids
+     * @param random the generator to draw from, or null to use Math.random()
+     * @return the random matching cell id
+     */
+    @Override
+    public Integer randomMatching(Condition<Integer> condition, SplittableRandom random) {
+        int chosen = -1;
+        int count = 0;
+        for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+            int neighborId = grid.neighbor(id, direction);
+            if (neighborId >= 0 && includes(direction) && condition.test(neighborId)
+                    && randomIndex(++count, random) == 0) {
+                chosen = neighborId;
+            }
+        }
+        return chosen < 0 ? null : chosen;
+    }
+
+    /**
+     * Get a random cell from the view, using a given generator. Returns null for empty views.
+     *
+     * @param random the generator to draw from, or null to use Math.random()
+     * @return the random cell id
+     */
+    @Override
+    public Integer randomElement(SplittableRandom random) {
+        int count = 0;
+        for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+            if (grid.neighbor(id, direction) >= 0 && includes(direction)) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+
+        int remaining = randomIndex(count, random);
+        for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+            int neighborId = grid.neighbor(id, direction);
+            if (neighborId >= 0 && includes(direction) && remaining-- == 0) {
+                return neighborId;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the view is empty.
+     *
+     * @return whether the view is empty
+     */
+    @Override
+    public boolean isEmpty() {
+        for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+            if (grid.neighbor(id, direction) >= 0 && includes(direction)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the neighbor in a given direction belongs in the view.
+     *
+     * @param direction direction of an existing neighbor
+     * @return whether that neighbor is in the view
+     */
+    private boolean includes(int direction) {
+        return !connectionsOnly || grid.isOpen(id, direction);
+    }
+
+    /**
+     * Throws if the view is a neighbors view, whose contents are fixed by the grid.
+     */
+    private void requireConnectionsOnly() {
+        if (!connectionsOnly) {
+            throw new UnsupportedOperationException("Grid neighbors cannot be changed");
+        }
+    }
+}
@@ -0,0 +1,520 @@
+package com.csc345.core;
+
+import java.util.Arrays;
+
+import com.csc345.data.SplittableRandom;
+import com.csc345.data.functionals.IntCondition;
+import com.csc345.data.functionals.IntConsumer;
+
+/**
+ * Represents a rectangular maze compactly, as one byte of open-wall flags per cell.
+ *
+ * Cells are identified by id, in row-major order like a maze of Nodes. A cell's neighbors are
+ * computed from its id, and its connections are the walls that are open, so checking, making or
+ * removing a connection is O(1) and no per-cell objects are stored.
+ * Nodes can still be created as views over the grid for code that works on Node objects.
+ */
+public class MazeGrid {
+
+    // directions, ordered clockwise so that the opposite of a direction is direction ^ 2
+    public static final int NORTH = 0;
+    public static final int EAST = 1;
+    public static final int SOUTH = 2;
+    public static final int WEST = 3;
+    public static final int DIRECTIONS = 4;
+
+    private final int rows;
+    private final int cols;
+    private final int size;
+    private final byte[] openings; // bit (1 << direction) is set when that wall is open
+    private ChangeJournal journal; // records connected and disconnected cells, or null if nothing is listening
+
+    /**
+     * Creates a new grid maze of a given size, with every wall closed.
+     *
+     * @param rows number of rows in the maze
+     * @param cols number of columns in the maze
+     */
+    public MazeGrid(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Maze must have at least one row and column");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.size = Math.multiplyExact(rows, cols);
+        this.openings = new byte[size];
+    }
+
+    /**
+     * Returns the number of rows in the maze.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns in the maze.
+     *
+     * @return the number of columns
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Returns the number of cells in the maze.
+     *
+     * @return the number of cells
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the direction opposite to a given direction.
+     *
+     * @param direction a direction
+     * @return the opposite direction
+     */
+    public static int opposite(int direction) {
+        return direction ^ 2;
+    }
+
+    /**
+     * Returns the neighbor of a cell in a given direction.
+     *
+     * @param id id of the cell
+     * @param direction direction of the neighbor
+     * @return id of the neighbor, or -1 if the cell is on that edge of the maze
+     */
+    public int neighbor(int id, int direction) {
+        switch (direction) {
+            case NORTH:
+                return id >= cols ? id - cols : -1;
+            case EAST:
+                return id % cols != cols - 1 ? id + 1 : -1;
+            case SOUTH:
+                return id < size - cols ? id + cols : -1;
+            case WEST:
+                return id % cols != 0 ? id - 1 : -1;
+            default:
+                throw new IllegalArgumentException("Invalid direction: " + direction);
+        }
+    }
+
+    /**
+     * Returns the direction from one cell to a neighboring cell.
+     *
+     * @param from id of the first cell
+     * @param to id of the second cell
+     * @return direction from the first cell to the second, or -1 if they are not neighbors
+     */
+    public int direction(int from, int to) {
+        if (from < 0 || from >= size || to < 0 || to >= size) {
+            return -1;
+        }
+        int difference = to - from;
+        if (difference == cols) {
+            return SOUTH;
+        }
+        if (difference == -cols) {
+            return NORTH;
+        }
+        if (difference == 1 && to % cols != 0) {
+            return EAST;
+        }
+        if (difference == -1 && from % cols != 0) {
+            return WEST;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether two cells are neighbors.
+     *
+     * @param id1 id of the first cell
+     * @param id2 id of the second cell
+     * @return whether the cells are neighbors
+     */
+    public boolean isNeighbor(int id1, int id2) {
+        return direction(id1, id2) >= 0;
+    }
+
+    /**
+     * Returns whether a cell's wall in a given direction is open.
+     *
+     * @param id id of the cell
+     * @param direction direction of the wall
+     * @return whether the wall is open
+     */
+    public boolean isOpen(int id, int direction) {
+        return ((openings[id] >> direction) & 1) != 0;
+    }
+
+    /**
+     * Returns all open walls of a cell as a bit mask, where bit {@code 1 << direction} is set for each open wall.
+     *
+     * @param id id of the cell
+     * @return the cell's open-wall mask
+     */
+    public int getOpenings(int id) {
+        return openings[id];
+    }
+
+    /**
+     * Returns whether two cells are connected.
+     *
+     * @param id1 id of the first cell
+     * @param id2 id of the second cell
+     * @return whether the cells are neighbors with an open wall between them
+     */
+    public boolean isConnected(int id1, int id2) {
+        int direction = direction(id1, id2);
+        return direction >= 0 && isOpen(id1, direction);
+    }
+
+    /**
+     * Connects two neighboring cells by opening the wall between them.
+     *
+     * @param id1 id of the first cell
+     * @param id2 id of the second cell
+     */
+    public void connect(int id1, int id2) {
+        int direction = requireDirection(id1, id2);
+        openings[id1] |= 1 << direction;
+        openings[id2] |= 1 << opposite(direction);
+        recordChange(id1, id2);
+    }
+
+    /**
+     * Connects a cell to its neighbor in a given direction by opening the wall between them.
+     * Faster than connect when the direction is already known, since no direction has to be worked out.
+     *
+     * @param id id of the cell
+     * @param direction direction of the neighbor to connect to
+     */
+    public void openWall(int id, int direction) {
+        int neighborId = neighbor(id, direction);
+        if (neighborId < 0) {
+            throw new IllegalArgumentException("Cell " + id + " has no neighbor in direction " + direction);
+        }
+        openings[id] |= 1 << direction;
+        openings[neighborId] |= 1 << opposite(direction);
+        recordChange(id, neighborId);
+    }
+
+    /**
+     * Disconnects a cell from its neighbor in a given direction by closing the wall between them.
+     * Faster than disconnect when the direction is already known.
+     *
+     * @param id id of the cell
+     * @param direction direction of the neighbor to disconnect from
+     */
+    public void closeWall(int id, int direction) {
+        int neighborId = neighbor(id, direction);
+        if (neighborId < 0) {
+            throw new IllegalArgumentException("Cell " + id + " has no neighbor in direction " + direction);
+        }
+        openings[id] &= ~(1 << direction);
+        openings[neighborId] &= ~(1 << opposite(direction));
+        recordChange(id, neighborId);
+    }
+
+    /**
+     * Opens walls along a whole row at once, for generators that carve a row at a time.
+     * Each cell names the walls to open on its north and east sides, as bits {@code 1 << direction};
+     * the matching south walls in the row above and west walls in the row are opened too.
+     * This writes to the row above, so rows next to each other must not be opened at the same time,
+     * but any other rows can be opened on different threads.
+     *
+     * @param row index of the row
+     * @param walls north and east walls to open for each cell in the row
+     */
+    public void openRowWalls(int row, byte[] walls) {
+        int first = row * cols;
+        int west = 0; // west wall of the next cell, opened by this cell's east wall
+        for (int col = 0; col < cols; col++) {
+            int open = walls[col] & (1 << NORTH | 1 << EAST);
+            openings[first + col] |= open | west;
+            west = (open & 1 << EAST) << (WEST - EAST);
+        }
+
+        if (row > 0) {
+            int above = first - cols;
+            for (int col = 0; col < cols; col++) {
+                openings[above + col] |= (walls[col] & 1 << NORTH) << (SOUTH - NORTH);
+            }
+        }
+
+        if (journal != null) {
+            for (int id = Math.max(0, first - cols); id < first + cols; id++) {
+                journal.record(id);
+            }
+        }
+    }
+
+    /**
+     * Disconnects two neighboring cells by closing the wall between them.
+     *
+     * @param id1 id of the first cell
+     * @param id2 id of the second cell
+     */
+    public void disconnect(int id1, int id2) {
+        int direction = requireDirection(id1, id2);
+        openings[id1] &= ~(1 << direction);
+        openings[id2] &= ~(1 << opposite(direction));
+        recordChange(id1, id2);
+    }
+
+    /**
+     * Runs a consumer for every neighbor of a cell.
+     *
+     * @param id id of the cell
+     * @param action the consumer to be passed all neighbor ids
+     */
+    public void forEachNeighbor(int id, IntConsumer action) {
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            int neighborId = neighbor(id, direction);
+            if (neighborId >= 0) {
+                action.accept(neighborId);
+            }
+        }
+    }
+
+    /**
+     * Runs a consumer for every cell connected to a cell.
+     *
+     * @param id id of the cell
+     * @param action the consumer to be passed all connected ids
+     */
+    public void forEachConnection(int id, IntConsumer action) {
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            if (isOpen(id, direction)) {
+                action.accept(neighbor(id, direction));
+            }
+        }
+    }
+
+    /**
+     * Counts the neighbors of a cell that match a given condition.
+     *
+     * @param id id of the cell
+     * @param condition the condition to apply to all neighbor ids
+     * @return the number of matching neighbors
+     */
+    public int countNeighbors(int id, IntCondition condition) {
+        return countMatching(id, condition, false);
+    }
+
+    /**
+     * Counts the cells connected to a cell that match a given condition.
+     *
+     * @param id id of the cell
+     * @param condition the condition to apply to all connected ids
+     * @return the number of matching connections
+     */
+    public int countConnections(int id, IntCondition condition) {
+        return countMatching(id, condition, true);
+    }
+
+    /**
+     * Picks a uniformly random neighbor of a cell.
+     *
+     * @param id id of the cell
+     * @return id of a random neighbor, or -1 if the maze is a single cell
+     */
+    public int randomNeighbor(int id) {
+        return randomMatching(id, neighborId -> true, false, null);
+    }
+
+    /**
+     * Picks a uniformly random neighbor of a cell, using a given generator.
+     *
+     * @param id id of the cell
+     * @param random the generator to draw from
+     * @return id of a random neighbor, or -1 if the maze is a single cell
+     */
+    public int randomNeighbor(int id, SplittableRandom random) {
+        return randomMatching(id, neighborId -> true, false, random);
+    }
+
+    /**
+     * Picks the direction of a uniformly random neighbor of a cell, drawing only once from the generator.
+     *
+     * @param id id of the cell
+     * @param random the generator to draw from
+     * @return direction of a random neighbor, or -1 if the maze is a single cell
+     */
+    public int randomDirection(int id, SplittableRandom random) {
+        int count = 0;
+        int directions = 0; // two bits per direction that has a neighbor
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            if (neighbor(id, direction) >= 0) {
+                directions |= direction << (2 * count++);
+            }
+        }
+        return count == 0 ? -1 : (directions >>> (2 * random.nextInt(count))) & 3;
+    }
+
+    /**
+     * Picks a uniformly random neighbor of a cell among those that match a given condition.
+     * Nothing is allocated, so this can be used in an algorithm's inner loop.
+     *
+     * @param id id of the cell
+     * @param condition the condition to apply to all neighbor ids
+     * @return id of a random matching neighbor, or -1 if none match
+     */
+    public int randomNeighbor(int id, IntCondition condition) {
+        return randomMatching(id, condition, false, null);
+    }
+
+    /**
+     * Picks a uniformly random neighbor of a cell among those that match a given condition, using a given generator.
+     *
+     * @param id id of the cell
+     * @param condition the condition to apply to all neighbor ids
+     * @param random the generator to draw from
+     * @return id of a random matching neighbor, or -1 if none match
+     */
+    public int randomNeighbor(int id, IntCondition condition, SplittableRandom random) {
+        return randomMatching(id, condition, false, random);
+    }
+
+    /**
+     * Picks a uniformly random cell connected to a cell among those that match a given condition.
+     * Nothing is allocated, so this can be used in an algorithm's inner loop.
+     *
+     * @param id id of the cell
+     * @param condition the condition to apply to all connected ids
+     * @return id of a random matching connection, or -1 if none match
+     */
+    public int randomConnection(int id, IntCondition condition) {
+        return randomMatching(id, condition, true, null);
+    }
+
+    /**
+     * Picks a uniformly random cell connected to a cell among those that match a given condition, using a given generator.
+     *
+     * @param id id of the cell
+     * @param condition the condition to apply to all connected ids
+     * @param random the generator to draw from
+     * @return id of a random matching connection, or -1 if none match
+     */
+    public int randomConnection(int id, IntCondition condition, SplittableRandom random) {
+        return randomMatching(id, condition, true, random);
+    }
+
+    /**
+     * Creates a Node view of a cell. The Node's neighbors and connections read from and write to the grid.
+     *
+     * @param id id of the cell
+     * @return a Node backed by the grid
+     */
+    public Node getNode(int id) {
+        return new Node(id, this);
+    }
+
+    /**
+     * Creates Node views of every cell in the maze, indexed by id.
+     * Views are independent of each other, so they're created in parallel.
+     *
+     * @return array of Nodes backed by the grid
+     */
+    public Node[] getNodes() {
+        Node[] nodes = new Node[size];
+        Arrays.parallelSetAll(nodes, this::getNode);
+        return nodes;
+    }
+
+    /**
+     * Counts the neighbors, or connections, of a cell that match a given condition.
+     *
+     * @param id id of the cell
+     * @param condition the condition to apply
+     * @param connectionsOnly whether to only count connected neighbors
+     * @return the number of matching cells
+     */
+    private int countMatching(int id, IntCondition condition, boolean connectionsOnly) {
+        int count = 0;
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            int neighborId = neighbor(id, direction);
+            if (neighborId >= 0 && (!connectionsOnly || isOpen(id, direction)) && condition.test(neighborId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Picks a random neighbor, or connection, of a cell that matches a given condition.
+     * Uses reservoir sampling, so the directions are walked once.
+     *
+     * @param id id of the cell
+     * @param condition the condition to apply
+     * @param connectionsOnly whether to only pick connected neighbors
+     * @param random the generator to draw from, or null to use Math.random()
+     * @return id of a random matching cell, or -1 if none match
+     */
+    private int randomMatching(int id, IntCondition condition, boolean connectionsOnly, SplittableRandom random) {
+        int chosen = -1;
+        int count = 0;
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            int neighborId = neighbor(id, direction);
+            if (neighborId >= 0 && (!connectionsOnly || isOpen(id, direction)) && condition.test(neighborId)
+                    && randomIndex(++count, random) == 0) {
+                chosen = neighborId; // keep the i-th match with probability 1/i
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * Sets the journal that records cells whose walls change. Replaces any journal set before.
+     *
+     * @param journal the journal to record changes in, or null to stop recording
+     */
+    void setJournal(ChangeJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Records that the wall between two cells changed, if a journal is set.
+     *
+     * @param id1 id of the first cell
+     * @param id2 id of the second cell
+     */
+    private void recordChange(int id1, int id2) {
+        if (journal != null) {
+            journal.record(id1);
+            journal.record(id2);
+        }
+    }
+
+    /**
+     * Returns a uniformly random index in the range {@code 0..bound-1}.
+     *
+     * @param bound the exclusive upper bound
+     * @param random the generator to draw from, or null to use Math.random()
+     * @return the random index
+     */
+    private static int randomIndex(int bound, SplittableRandom random) {
+        return random != null ? random.nextInt(bound) : (int) (Math.random() * bound);
+    }
+
+    /**
+     * Returns the direction between two cells, throwing if they are not neighbors.
+     *
+     * @param id1 id of the first cell
+     * @param id2 id of the second cell
+     * @return direction from the first cell to the second
+     */
+    private int requireDirection(int id1, int id2) {
+        int direction = direction(id1, id2);
+        if (direction < 0) {
+            throw new IllegalArgumentException("Cells " + id1 + " and " + id2 + " are not neighbors");
+        }
+        return direction;
+    }
+}
@@ -24,6 +24,19 @@ public class Node {
         this.connections = new LinkedListSet<>();
     }
 
+    /**
+     * Initializes a new node that views a cell of a MazeGrid.
+     * Its neighbors and connections are read from the grid, and connecting or disconnecting it updates the grid.
+     * 
+     * @param id node's id, which is the cell's id in the grid
+     * @param grid the grid that holds the maze
+     */
+    public Node(int id, MazeGrid grid) {
+        this.id = id;
+        this.neighbors = new GridCellSet(grid, id, false);
+        this.connections = new GridCellSet(grid, id, true);
+    }
+
     /**
      * Connect the Node to another Node. 
      * This will add a connection to itself and the other Node.
@@ -1,8 +1,8 @@
 package com.csc345.core.maze_algorithms;
 
 import com.csc345.core.Algorithm;
-import com.csc345.core.State;
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
+import com.csc345.data.SplittableRandom;
 
 /**
  * This is an abstract class for all the maze algorithms we're gonna write. It's like a template that
@@ -10,19 +10,53 @@ import com.csc345.core.Node;
  * like making sure all the nodes are ready to go by setting them to 'UNVISITED'.
  */
 public abstract class MazeAlgorithm extends Algorithm {
+
+    protected final SplittableRandom random; // this algorithm's own generator, for every random choice it makes
+    private final long seed;
+
     /**
-     * Constructor that preps up all the nodes for a new maze. It goes through each node and sets its state
-     * to 'UNVISITED' because, in the beginning, we haven't gone through any of them yet.
+     * Constructor that preps up all the nodes for a new maze. Every node starts out 'UNVISITED'
+     * because, in the beginning, we haven't gone through any of them yet.
      *
-     * @param nodes This is the bunch of nodes we'll be using to create the maze. Think of each node like
-     *              a room or space in the maze that we need to visit.
+     * @param grid This is the grid of cells we'll be using to create the maze. Think of each cell like
+     *             a room or space in the maze that we need to visit.
      */
 
-    public MazeAlgorithm(Node[] nodes) {
-        super(nodes);
-        for (int i = 0; i < nodes.length; i++) {
-            changeState(i, State.UNVISITED);
-        }
+    public MazeAlgorithm(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Constructor for a maze that can be made again: the same seed on the same size of grid
+     * always produces the same maze.
+     *
+     * @param grid This is the grid of cells we'll be using to create the maze.
+     * @param seed The seed for all of the algorithm's random choices.
+     */
+    public MazeAlgorithm(MazeGrid grid, long seed) {
+        super(grid);
+        // a new state store already has every node UNVISITED
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns the seed the algorithm's random choices come from, so the maze can be made again.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns whether the algorithm keeps changing the maze forever instead of finishing when looped,
+     * so the maze can only be used as a snapshot between steps.
+     *
+     * @return true if looping never finishes, false otherwise
+     */
+    public boolean isEndless() {
+        return false;
     }
     
 }
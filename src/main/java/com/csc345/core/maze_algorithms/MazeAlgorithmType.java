@@ -2,7 +2,8 @@ package com.csc345.core.maze_algorithms;
 
 import com.csc345.core.AlgorithmType;
 import com.csc345.core.maze_algorithms.algorithms.*;
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
+import com.csc345.data.SplittableRandom;
 
 /**
  * Enum for all SolveAlgorithm subclasses, called Types.
@@ -11,7 +12,15 @@ public enum MazeAlgorithmType implements AlgorithmType {
     BACKTRACKING("Backtracking"),
     PRIMS("Prims"),
     WILSONS("Wilsons"),
-    KRUSKALS("Kruskals");
+    KRUSKALS("Kruskals"),
+    PARALLEL_KRUSKALS("Parallel Kruskals"),
+    ELLERS("Ellers"),
+    RECURSIVE_DIVISION("Recursive Division"),
+    BINARY_TREE("Binary Tree"),
+    SIDEWINDER("Sidewinder"),
+    GROWING_TREE("Growing Tree"),
+    HUNT_AND_KILL("Hunt and Kill"),
+    ORIGIN_SHIFT("Origin Shift");
     
     /**
      * Constructs a MazeAlgorithmType with a given name.
@@ -40,23 +49,51 @@ public enum MazeAlgorithmType implements AlgorithmType {
 
     /**
      * This method picks the maze algorithm based on the enum type and creates an instance of it.
-     * It uses the provided array of nodes to set up the algorithm, which is cool because it means
+     * It uses the provided maze grid to set up the algorithm, which is cool because it means
      * we can use the same method to initialize any maze algorithm we want just by changing the enum value.
      *
-     * @param nodes An array containing the nodes that the chosen algorithm will use to generate the maze.
+     * @param grid The grid that the chosen algorithm will use to generate the maze.
      * @return An instance of the MazeAlgorithm that matches the enum type. If something goes wrong, it might return null,
      * so watch out for that.
      */
-    public MazeAlgorithm getAlgorithm(Node[] nodes) {
+    public MazeAlgorithm getAlgorithm(MazeGrid grid) {
+        return getAlgorithm(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Picks the maze algorithm like the method above, with all of its random choices coming from a given seed.
+     * The same seed and grid size always produce the same maze, so a maze can be made again from its seed.
+     *
+     * @param grid The grid that the chosen algorithm will use to generate the maze.
+     * @param seed The seed for the algorithm's random choices.
+     * @return An instance of the MazeAlgorithm that matches the enum type, or null if something goes wrong.
+     */
+    public MazeAlgorithm getAlgorithm(MazeGrid grid, long seed) {
         switch (this) {
             case BACKTRACKING:
-                return new Backtracking(nodes);
+                return new Backtracking(grid, seed);
             case PRIMS:
-                return new Prims(nodes);
+                return new Prims(grid, seed);
             case WILSONS:
-                return new Wilsons(nodes);
+                return new Wilsons(grid, seed);
             case KRUSKALS:
-                return new Kruskals(nodes);
+                return new Kruskals(grid, seed);
+            case PARALLEL_KRUSKALS:
+                return new ParallelKruskals(grid, seed);
+            case ELLERS:
+                return new Ellers(grid, seed);
+            case RECURSIVE_DIVISION:
+                return new RecursiveDivision(grid, seed);
+            case BINARY_TREE:
+                return new BinaryTree(grid, seed);
+            case SIDEWINDER:
+                return new Sidewinder(grid, seed);
+            case GROWING_TREE:
+                return new GrowingTree(grid, seed);
+            case HUNT_AND_KILL:
+                return new HuntAndKill(grid, seed);
+            case ORIGIN_SHIFT:
+                return new OriginShift(grid, seed);
             default:
                 return null;
         }
@@ -0,0 +1,151 @@
+package com.csc345.core.maze_algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.State;
+import com.csc345.data.SplittableRandom;
+
+/**
+ * This is an abstract class for maze algorithms that carve every row without looking at any other row,
+ * only ever opening walls to the north and east.
+ *
+ * Every row draws from its own generator, seeded from the maze's seed and the row's index, so rows can be
+ * carved in any order. When the maze is finished immediately, rows are carved in parallel in two passes,
+ * first the even rows and then the odd ones, since carving a row also opens walls in the row above it.
+ * A seed always gives the same maze no matter how many threads carve it, or whether it's carved one row per step.
+ */
+public abstract class RowMazeAlgorithm extends MazeAlgorithm {
+
+    private static final int ROWS_PER_TASK = 64; // rows carved by one task without forking
+
+    private final int rows;
+    private final int cols;
+    private final byte[] walls; // walls of the row being carved, when looping one step at a time
+    private int currRow;
+    private int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+    /**
+     * Sets up the maze, with all random choices coming from a given seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     * @param seed The seed for the algorithm's random choices.
+     */
+    public RowMazeAlgorithm(MazeGrid grid, long seed) {
+        super(grid, seed);
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.walls = new byte[cols];
+    }
+
+    /**
+     * Sets the number of threads used when the maze is finished immediately. Doesn't change the maze.
+     *
+     * @param parallelism the number of threads
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Decides which walls to open in one row. Every cell must be written, since the array is reused.
+     * Row 0 must only open east walls, and the last cell of a row must not open its east wall.
+     *
+     * @param row index of the row
+     * @param walls filled with the north and east walls to open for each cell, as bits {@code 1 << direction}
+     * @param random the row's own generator
+     */
+    protected abstract void carveRow(int row, byte[] walls, SplittableRandom random);
+
+    /**
+     * Carves the next row.
+     *
+     * @return true once the last row is carved, false otherwise.
+     */
+    @Override
+    protected boolean loopOnceInternal() {
+        carve(currRow, walls);
+        for (int id = currRow * cols; id < (currRow + 1) * cols; id++) {
+            changeState(id, State.VISITED);
+        }
+        return ++currRow == rows;
+    }
+
+    /**
+     * Carves every row in parallel.
+     * Falls back to looping when steps have already been taken, or when changes are tracked,
+     * since the journal can only be written from one thread.
+     */
+    @Override
+    protected void finishInternal() {
+        if (currRow > 0 || isTrackingChanges()) {
+            super.finishInternal();
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new CarveRows(0, rows, 0));
+            pool.invoke(new CarveRows(0, rows, 1));
+        } finally {
+            pool.shutdown();
+        }
+
+        changeAllStates(State.VISITED);
+        currRow = rows;
+    }
+
+    /**
+     * Carves one row into the grid.
+     *
+     * @param row index of the row
+     * @param walls array to fill with the row's walls
+     */
+    private void carve(int row, byte[] walls) {
+        carveRow(row, walls, new SplittableRandom(SplittableRandom.derive(getSeed(), row)));
+        grid.openRowWalls(row, walls);
+    }
+
+    /**
+     * Carves every other row in a range, splitting the range in half until each task has only a few rows.
+     */
+    @SuppressWarnings("serial") // tasks are never serialized
+    private class CarveRows extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final int parity;
+
+        /**
+         * Create a task for the rows from one index up to another that are even, or odd.
+         *
+         * @param from index of the first row in the range
+         * @param to index after the last row in the range
+         * @param parity 0 to carve the even rows, or 1 to carve the odd rows
+         */
+        CarveRows(int from, int to, int parity) {
+            this.from = from;
+            this.to = to;
+            this.parity = parity;
+        }
+
+        /**
+         * Carves the rows, forking one half off to another thread if there are enough of them.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= 2 * ROWS_PER_TASK) {
+                byte[] rowWalls = new byte[cols];
+                for (int row = from + ((from ^ parity) & 1); row < to; row += 2) {
+                    carve(row, rowWalls);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CarveRows(from, middle, parity), new CarveRows(middle, to, parity));
+        }
+    }
+}
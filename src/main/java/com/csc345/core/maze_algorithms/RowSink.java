@@ -0,0 +1,41 @@
+package com.csc345.core.maze_algorithms;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Receives a maze one row at a time, for generators that stream mazes too big to keep in memory.
+ *
+ * Each row is given as one byte of open-wall flags per cell, laid out like a MazeGrid:
+ * bit {@code 1 << direction} is set when the wall in that direction is open.
+ */
+@FunctionalInterface
+public interface RowSink {
+
+    /**
+     * Receives one finished row of the maze. Rows arrive in order, starting from row 0.
+     *
+     * @param row index of the row
+     * @param openings open-wall flags of each cell in the row; the array is reused for the next row,
+     *                 so it must be copied to be kept
+     */
+    void accept(long row, byte[] openings);
+
+    /**
+     * Creates a sink that writes every row's open-wall flags to a stream, so the stream holds the maze
+     * in the same row-major, byte-per-cell layout as a MazeGrid. The stream is not closed.
+     *
+     * @param out the stream to write to
+     * @return the sink
+     */
+    static RowSink to(OutputStream out) {
+        return (row, openings) -> {
+            try {
+                out.write(openings);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+}
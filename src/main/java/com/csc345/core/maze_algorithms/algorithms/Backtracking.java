@@ -1,9 +1,10 @@
 package com.csc345.core.maze_algorithms.algorithms;
 
-import com.csc345.data.ArrayDeque;
-import com.csc345.data.LinkedListSet;
+import com.csc345.data.IntArrayDeque;
+import com.csc345.data.SplittableRandom;
+import com.csc345.data.functionals.IntCondition;
 
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.State;
 import com.csc345.core.maze_algorithms.MazeAlgorithm;
 
@@ -15,17 +16,29 @@ import com.csc345.core.maze_algorithms.MazeAlgorithm;
 public class Backtracking extends MazeAlgorithm {
 
     private int startId;
-    private ArrayDeque<Integer> exploreStack;
+    private IntArrayDeque exploreStack;
+
+    private final IntCondition isUnvisited = id -> getState(id) == State.UNVISITED;
 
     /**
      * Initializes a new Backtracking algorithm on a maze, selecting a random start node.
      * 
-     * @param nodes the maze nodes to generate with
+     * @param grid the maze grid to generate with
+     */
+    public Backtracking(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Initializes a new Backtracking algorithm on a maze, whose random choices all come from a given seed.
+     * 
+     * @param grid the maze grid to generate with
+     * @param seed the seed for the algorithm's random choices
      */
-    public Backtracking(Node[] nodes) {
-        super(nodes);
-        this.exploreStack = new ArrayDeque<>(nodes.length);
-        this.startId = (int) (Math.random() * nodes.length);
+    public Backtracking(MazeGrid grid, long seed) {
+        super(grid, seed);
+        this.exploreStack = new IntArrayDeque(grid.size());
+        this.startId = random.nextInt(grid.size());
         exploreStack.addFirst(startId);
         changeState(startId, State.VISITING);
     }
@@ -37,32 +50,20 @@ public class Backtracking extends MazeAlgorithm {
      */
     @Override
     protected boolean loopOnceInternal() {
-        Node current = nodes[exploreStack.getFirst()];
+        int currentId = exploreStack.getFirst();
 
-        // Find an unvisited neighbor, or null if all neighbors are visited
-        Integer neighborId = findUnvisitedNeighbor(current);
-        if (neighborId != null) {
-            current.connect(nodes[neighborId]);
+        // Find a random unvisited neighbor, or -1 if all neighbors are visited
+        int neighborId = grid.randomNeighbor(currentId, isUnvisited, random);
+        if (neighborId >= 0) {
+            grid.connect(currentId, neighborId);
             changeState(neighborId, State.VISITING);
             exploreStack.addFirst(neighborId);
         } else {
             exploreStack.removeFirst();
-            changeState(current.id, State.VISITED);
+            changeState(currentId, State.VISITED);
         }
 
         return exploreStack.isEmpty();
     }
-
-    /**
-     * Finds a random unvisited neighbor of a given node.
-     * If all neighbors are visited, returns null.
-     * 
-     * @param node the node to find an unvisited neighbor of
-     * @return the id of an unvisited neighbor, or null if none exist
-     */
-    private Integer findUnvisitedNeighbor(Node node) {
-        LinkedListSet<Integer> unvisitedNeighbors = node.neighbors.filter(data -> states[data] == State.UNVISITED);
-        return unvisitedNeighbors.randomElement();
-    }
     
 }
@@ -0,0 +1,65 @@
+package com.csc345.core.maze_algorithms.algorithms;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.maze_algorithms.RowMazeAlgorithm;
+import com.csc345.data.SplittableRandom;
+
+/**
+ * This class generates a maze with the binary tree algorithm: every cell opens either its north or its east wall,
+ * picked at random. Cells on the top row can only go east and cells in the last column can only go north,
+ * so the maze has two long open corridors along those sides and a texture that leans toward the top-right corner.
+ * Each cell only needs one random bit, so rows are carved 64 cells per draw, without branching on the choice.
+ */
+public class BinaryTree extends RowMazeAlgorithm {
+
+    private static final byte NORTH_WALL = 1 << MazeGrid.NORTH;
+    private static final byte EAST_WALL = 1 << MazeGrid.EAST;
+
+    /**
+     * Sets up the maze with a random seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     */
+    public BinaryTree(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Sets up the maze, with all random choices coming from a given seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     * @param seed The seed for the algorithm's random choices.
+     */
+    public BinaryTree(MazeGrid grid, long seed) {
+        super(grid, seed);
+    }
+
+    /**
+     * Opens the north or east wall of every cell in the row.
+     *
+     * @param row index of the row
+     * @param walls filled with the wall to open for each cell
+     * @param random the row's own generator
+     */
+    @Override
+    protected void carveRow(int row, byte[] walls, SplittableRandom random) {
+        int last = walls.length - 1;
+        if (row == 0) {
+            for (int col = 0; col < last; col++) {
+                walls[col] = EAST_WALL;
+            }
+            walls[last] = 0;
+            return;
+        }
+
+        long bits = 0;
+        for (int col = 0; col < last; col++) {
+            if ((col & 63) == 0) {
+                bits = random.nextLong();
+            }
+            // a 0 bit shifts to the north wall and a 1 bit to the east wall, since EAST is NORTH + 1
+            walls[col] = (byte) (NORTH_WALL << ((bits >>> col) & 1));
+        }
+        walls[last] = NORTH_WALL;
+    }
+}
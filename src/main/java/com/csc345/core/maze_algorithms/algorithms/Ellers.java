@@ -0,0 +1,233 @@
+package com.csc345.core.maze_algorithms.algorithms;
+
+import java.io.OutputStream;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.State;
+import com.csc345.core.maze_algorithms.MazeAlgorithm;
+import com.csc345.core.maze_algorithms.RowSink;
+import com.csc345.data.SplittableRandom;
+
+/**
+ * This class implements Eller's algorithm, which builds a maze one row at a time.
+ *
+ * Each cell in the current row belongs to a set of cells that are already connected. Neighbors in different
+ * sets are randomly joined, then every set sends at least one passage down into the next row. The last row
+ * joins whatever sets are left, which makes the maze perfect. Only the current row's sets are ever needed,
+ * so besides filling a grid one row per step, the algorithm can stream a maze of any height to a RowSink
+ * using memory proportional to the number of columns.
+ */
+public class Ellers extends MazeAlgorithm {
+
+    private RowGenerator rowGenerator;
+    private int currRow;
+
+    /**
+     * Initializes Eller's algorithm on a maze with a random seed.
+     *
+     * @param grid Grid of the maze to generate.
+     */
+    public Ellers(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Initializes Eller's algorithm on a maze, with all random choices coming from a given seed.
+     * The maze is the same one that {@code generate} streams for the same size and seed.
+     *
+     * @param grid Grid of the maze to generate.
+     * @param seed The seed for the algorithm's random choices.
+     */
+    public Ellers(MazeGrid grid, long seed) {
+        super(grid, seed);
+        rowGenerator = new RowGenerator(grid.getRows(), grid.getCols(), random);
+    }
+
+    /**
+     * Streams a maze to a sink one row at a time, without ever holding more than one row.
+     *
+     * @param rows number of rows in the maze
+     * @param cols number of columns in the maze
+     * @param seed the seed for the algorithm's random choices
+     * @param sink the sink to receive every row, in order
+     */
+    public static void generate(long rows, int cols, long seed, RowSink sink) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Maze must have at least one row and column");
+        }
+        RowGenerator rowGenerator = new RowGenerator(rows, cols, new SplittableRandom(seed));
+        for (long row = 0; row < rows; row++) {
+            sink.accept(row, rowGenerator.nextRow());
+        }
+    }
+
+    /**
+     * Streams a maze to an output stream, as one byte of open-wall flags per cell in row-major order.
+     * The stream is not closed.
+     *
+     * @param rows number of rows in the maze
+     * @param cols number of columns in the maze
+     * @param seed the seed for the algorithm's random choices
+     * @param out the stream to write to
+     */
+    public static void write(long rows, int cols, long seed, OutputStream out) {
+        generate(rows, cols, seed, RowSink.to(out));
+    }
+
+    /**
+     * Generates the next row and carves it into the grid.
+     *
+     * @return true once the last row is done, false otherwise.
+     */
+    @Override
+    protected boolean loopOnceInternal() {
+        byte[] openings = rowGenerator.nextRow();
+        int cols = grid.getCols();
+        int firstId = currRow * cols;
+
+        for (int col = 0; col < cols; col++) {
+            int id = firstId + col;
+            // north and west walls were opened along with the row above and the cell to the left
+            if ((openings[col] & (1 << MazeGrid.EAST)) != 0) {
+                grid.openWall(id, MazeGrid.EAST);
+            }
+            if ((openings[col] & (1 << MazeGrid.SOUTH)) != 0) {
+                grid.openWall(id, MazeGrid.SOUTH);
+            }
+            changeState(id, State.VISITED);
+        }
+
+        return ++currRow == grid.getRows();
+    }
+
+    /**
+     * Produces the rows of one maze in order, keeping only the sets of the current row.
+     *
+     * Set labels are small ints below the number of columns, so they can index into arrays. While a row is built,
+     * labels are merged with a union-find over the labels, and the root of each set becomes the label that's
+     * carried down into the next row.
+     */
+    private static class RowGenerator {
+        private final long rows;
+        private final int cols;
+        private final SplittableRandom random;
+
+        private final int[] labels; // set label of each cell in the row, or -1 before one is given
+        private final int[] parent; // union-find parent of each label in the row
+        private final int[] remaining; // cells of each set not yet decided on for going down
+        private final boolean[] hasDown; // whether each set has a passage down yet
+        private final boolean[] used; // whether each label is used in the row
+        private final byte[] openings; // open-wall flags of each cell in the row
+        private long row;
+
+        /**
+         * Prepares to generate a maze of a given size.
+         *
+         * @param rows number of rows in the maze
+         * @param cols number of columns in the maze
+         * @param random the generator to draw from
+         */
+        RowGenerator(long rows, int cols, SplittableRandom random) {
+            this.rows = rows;
+            this.cols = cols;
+            this.random = random;
+
+            labels = new int[cols];
+            parent = new int[cols];
+            remaining = new int[cols];
+            hasDown = new boolean[cols];
+            used = new boolean[cols];
+            openings = new byte[cols];
+            for (int col = 0; col < cols; col++) {
+                labels[col] = -1;
+            }
+        }
+
+        /**
+         * Generates the next row.
+         *
+         * @return the open-wall flags of each cell in the row, in an array that's reused for the next row
+         */
+        byte[] nextRow() {
+            boolean isLastRow = row == rows - 1;
+
+            // cells with a label were reached from the row above
+            for (int col = 0; col < cols; col++) {
+                openings[col] = labels[col] >= 0 ? (byte) (1 << MazeGrid.NORTH) : 0;
+                used[col] = false;
+            }
+            for (int col = 0; col < cols; col++) {
+                if (labels[col] >= 0) {
+                    used[labels[col]] = true;
+                }
+            }
+
+            // every other cell starts a new set
+            int freeLabel = 0;
+            for (int col = 0; col < cols; col++) {
+                if (labels[col] < 0) {
+                    while (used[freeLabel]) {
+                        freeLabel++;
+                    }
+                    labels[col] = freeLabel;
+                    used[freeLabel] = true;
+                }
+                parent[labels[col]] = labels[col];
+            }
+
+            // randomly join neighbors in different sets, or all of them in the last row
+            for (int col = 0; col < cols - 1; col++) {
+                int root1 = find(labels[col]);
+                int root2 = find(labels[col + 1]);
+                if (root1 != root2 && (isLastRow || random.nextBoolean())) {
+                    parent[root2] = root1;
+                    openings[col] |= 1 << MazeGrid.EAST;
+                    openings[col + 1] |= 1 << MazeGrid.WEST;
+                }
+            }
+
+            if (isLastRow) {
+                row++;
+                return openings;
+            }
+
+            // randomly send cells down, making sure every set goes down at least once
+            for (int col = 0; col < cols; col++) {
+                int root = find(labels[col]);
+                remaining[root] = 0;
+                hasDown[root] = false;
+            }
+            for (int col = 0; col < cols; col++) {
+                remaining[find(labels[col])]++;
+            }
+            for (int col = 0; col < cols; col++) {
+                int root = find(labels[col]);
+                boolean isLastChance = --remaining[root] == 0 && !hasDown[root];
+                if (isLastChance || random.nextBoolean()) {
+                    hasDown[root] = true;
+                    openings[col] |= 1 << MazeGrid.SOUTH;
+                    labels[col] = root;
+                } else {
+                    labels[col] = -1;
+                }
+            }
+
+            row++;
+            return openings;
+        }
+
+        /**
+         * Finds the root label of a label's set, halving the path along the way.
+         *
+         * @param label the label
+         * @return the root label
+         */
+        private int find(int label) {
+            while (parent[label] != label) {
+                parent[label] = parent[parent[label]];
+                label = parent[label];
+            }
+            return label;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.csc345.core.maze_algorithms.algorithms;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.State;
+import com.csc345.core.maze_algorithms.MazeAlgorithm;
+import com.csc345.data.SplittableRandom;
+import com.csc345.data.functionals.IntCondition;
+
+/**
+ * Growing tree maze generation algorithm.
+ * Keeps a list of active nodes, starting with one random node. Each step picks an active node and connects it to
+ * a random unvisited neighbor, which becomes active too, or removes it from the list once it has none left.
+ * How the active node is picked decides the maze's texture: always picking the newest node gives long,
+ * winding corridors like Backtracking, picking a random node gives short dead ends like Prims,
+ * and picking the oldest node gives long straight corridors spreading out from the start.
+ *
+ * Every node is added to the list once, so the list is a single array: nodes are appended at the end, the oldest
+ * is removed by moving the front up, and any other node is removed by moving the newest node into its place.
+ */
+public class GrowingTree extends MazeAlgorithm {
+
+    /**
+     * Ways to pick which active node grows next.
+     */
+    public enum Policy {
+        NEWEST,
+        RANDOM,
+        OLDEST,
+        MIXED // the newest node with some probability, or a random one otherwise
+    }
+
+    public static final double DEFAULT_NEWEST_CHANCE = 0.5;
+
+    private final Policy policy;
+    private final double newestChance;
+
+    private final int[] active; // active nodes, from the oldest at front to the newest at back - 1
+    private int front;
+    private int back;
+
+    private final IntCondition isUnvisited = id -> getState(id) == State.UNVISITED;
+
+    /**
+     * Initializes a new growing tree on a maze, mixing newest and random nodes evenly, with a random seed.
+     *
+     * @param grid the maze grid to generate with
+     */
+    public GrowingTree(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Initializes a new growing tree on a maze, mixing newest and random nodes evenly,
+     * whose random choices all come from a given seed.
+     *
+     * @param grid the maze grid to generate with
+     * @param seed the seed for the algorithm's random choices
+     */
+    public GrowingTree(MazeGrid grid, long seed) {
+        this(grid, seed, Policy.MIXED, DEFAULT_NEWEST_CHANCE);
+    }
+
+    /**
+     * Initializes a new growing tree on a maze with a given policy. MIXED picks newest and random nodes evenly.
+     *
+     * @param grid the maze grid to generate with
+     * @param seed the seed for the algorithm's random choices
+     * @param policy how to pick the node that grows next
+     */
+    public GrowingTree(MazeGrid grid, long seed, Policy policy) {
+        this(grid, seed, policy, DEFAULT_NEWEST_CHANCE);
+    }
+
+    /**
+     * Initializes a new growing tree on a maze with a given policy.
+     *
+     * @param grid the maze grid to generate with
+     * @param seed the seed for the algorithm's random choices
+     * @param policy how to pick the node that grows next
+     * @param newestChance for MIXED, the probability of picking the newest node instead of a random one
+     */
+    public GrowingTree(MazeGrid grid, long seed, Policy policy, double newestChance) {
+        super(grid, seed);
+        if (policy == null) {
+            throw new IllegalArgumentException("Policy must not be null");
+        }
+        if (!(newestChance >= 0 && newestChance <= 1)) {
+            throw new IllegalArgumentException("Newest chance must be between 0 and 1");
+        }
+        this.policy = policy;
+        this.newestChance = newestChance;
+
+        active = new int[grid.size()];
+        int startId = random.nextInt(grid.size());
+        active[back++] = startId;
+        changeState(startId, State.VISITING);
+    }
+
+    /**
+     * Loops once internally, either growing the maze from one active node,
+     * or removing that node from the active list if it can't grow.
+     */
+    @Override
+    protected boolean loopOnceInternal() {
+        int index = pickIndex();
+        int currentId = active[index];
+
+        // Find a random unvisited neighbor, or -1 if all neighbors are visited
+        int neighborId = grid.randomNeighbor(currentId, isUnvisited, random);
+        if (neighborId >= 0) {
+            grid.connect(currentId, neighborId);
+            changeState(neighborId, State.VISITING);
+            active[back++] = neighborId;
+        } else {
+            remove(index);
+            changeState(currentId, State.VISITED);
+        }
+
+        return front == back;
+    }
+
+    /**
+     * Picks the index of the active node to grow next, following the policy.
+     *
+     * @return index into the active list
+     */
+    private int pickIndex() {
+        switch (policy) {
+            case NEWEST:
+                return back - 1;
+            case OLDEST:
+                return front;
+            case RANDOM:
+                return front + random.nextInt(back - front);
+            default:
+                return random.nextDouble() < newestChance ? back - 1 : front + random.nextInt(back - front);
+        }
+    }
+
+    /**
+     * Removes a node from the active list, moving the newest node into its place if it's not at either end.
+     *
+     * @param index index of the node to remove
+     */
+    private void remove(int index) {
+        if (index == front) {
+            front++;
+        } else {
+            active[index] = active[--back];
+        }
+    }
+}
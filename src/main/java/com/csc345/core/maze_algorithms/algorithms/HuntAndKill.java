@@ -0,0 +1,116 @@
+package com.csc345.core.maze_algorithms.algorithms;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.State;
+import com.csc345.core.maze_algorithms.MazeAlgorithm;
+import com.csc345.data.SplittableRandom;
+import com.csc345.data.functionals.IntCondition;
+
+/**
+ * Hunt-and-kill maze generation algorithm.
+ * Walks randomly from node to unvisited node, making connections when it moves, like Backtracking.
+ * When it arrives at a Node with no unvisited neighbors, instead of backtracking it hunts for the first unvisited
+ * node in the maze, connects it to a visited neighbor, and starts walking again from there.
+ * This makes the same long corridors as Backtracking without keeping a stack of the whole path.
+ *
+ * The walk starts at the top-left node, so every node before the first unvisited one is visited, and the
+ * first unvisited node always has a visited neighbor to its north or west. The hunt never looks at a node twice:
+ * it moves forward past visited nodes, and skips whole rows once a count of their unvisited nodes reaches zero.
+ */
+public class HuntAndKill extends MazeAlgorithm {
+
+    private final int cols;
+    private final int[] unvisitedInRow; // number of unvisited nodes left in each row
+    private int unvisited; // number of unvisited nodes left in the maze
+    private int huntId; // no node before this one is unvisited
+    private int currentId; // node the walk is at
+
+    private final IntCondition isUnvisited = id -> getState(id) == State.UNVISITED;
+    private final IntCondition isVisited = id -> getState(id) != State.UNVISITED;
+
+    /**
+     * Initializes a new hunt-and-kill algorithm on a maze with a random seed.
+     *
+     * @param grid the maze grid to generate with
+     */
+    public HuntAndKill(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Initializes a new hunt-and-kill algorithm on a maze, whose random choices all come from a given seed.
+     *
+     * @param grid the maze grid to generate with
+     * @param seed the seed for the algorithm's random choices
+     */
+    public HuntAndKill(MazeGrid grid, long seed) {
+        super(grid, seed);
+        this.cols = grid.getCols();
+
+        unvisitedInRow = new int[grid.getRows()];
+        for (int row = 0; row < unvisitedInRow.length; row++) {
+            unvisitedInRow[row] = cols;
+        }
+        unvisited = grid.size();
+
+        currentId = 0;
+        visit(currentId, State.VISITING);
+    }
+
+    /**
+     * Loops once internally, either walking to a random unvisited neighbor,
+     * or hunting for a new node to walk from when there's none.
+     */
+    @Override
+    protected boolean loopOnceInternal() {
+        if (unvisited == 0) {
+            changeState(currentId, State.VISITED);
+            return true; // catch single-cell mazes
+        }
+
+        int previousId = currentId;
+
+        // Find a random unvisited neighbor, or -1 if all neighbors are visited
+        int neighborId = grid.randomNeighbor(currentId, isUnvisited, random);
+        if (neighborId >= 0) {
+            grid.connect(currentId, neighborId);
+            currentId = neighborId;
+        } else {
+            currentId = hunt();
+            grid.connect(currentId, grid.randomNeighbor(currentId, isVisited, random));
+        }
+
+        changeState(previousId, State.VISITED);
+        visit(currentId, unvisited == 1 ? State.VISITED : State.VISITING);
+
+        return unvisited == 0;
+    }
+
+    /**
+     * Finds the first unvisited node, skipping rows that have none left.
+     *
+     * @return id of the first unvisited node
+     */
+    private int hunt() {
+        while (getState(huntId) != State.UNVISITED) {
+            if (unvisitedInRow[huntId / cols] == 0) {
+                huntId = (huntId / cols + 1) * cols;
+            } else {
+                huntId++;
+            }
+        }
+        return huntId;
+    }
+
+    /**
+     * Marks an unvisited node as visited, counting it off its row.
+     *
+     * @param id id of the node
+     * @param state the state to show the node in
+     */
+    private void visit(int id, State state) {
+        unvisitedInRow[id / cols]--;
+        unvisited--;
+        changeState(id, state);
+    }
+}
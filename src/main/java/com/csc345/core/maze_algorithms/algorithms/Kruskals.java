@@ -1,51 +1,52 @@
 package com.csc345.core.maze_algorithms.algorithms;
 
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.State;
 import com.csc345.core.maze_algorithms.MazeAlgorithm;
-import com.csc345.data.UnionFind;
-import com.csc345.data.LinkedListSet;
-import com.csc345.data.List;
+import com.csc345.data.IntPermutation;
+import com.csc345.data.IntUnionFind;
+import com.csc345.data.SplittableRandom;
 
 /**
  * This class uses Kruskal's algorithm to generate a maze. It's kind of like building a road system
  * without creating any loops and making sure all the parts are reachable. We use something called a
  * union-find disjoint set to keep track of which parts are connected to which, so we don't accidentally make a loop.
+ *
+ * Edges (possible paths between nodes) are PackedEdges, so each one is a single int and is only listed once.
+ * Finishing immediately shuffles an array of all of them. Looping one step at a time doesn't list them at all:
+ * it draws them from a lazy random permutation, which makes the same draws, so both give the same maze.
  */
 public class Kruskals extends MazeAlgorithm {
-    
-    private UnionFind<Integer> unionFind;
-    private List<Edge> edges;
-    private int currIndex;
-    private Edge currEdge;
+
+    private final int rows;
+    private final int cols;
+    private IntUnionFind unionFind;
+    private IntPermutation order; // order of the edge indexes when looping, or null before the first step
+    private int currEdge; // edge selected in the last step, or -1
 
     /**
      * Sets up the maze with the nodes provided and prepares all the tools we'll need,
-     * like the union-find and a list of all edges (possible paths between nodes).
+     * like the union-find that tracks which nodes are connected.
      *
-     * @param nodes Array of nodes that the maze will consist of.
+     * @param grid Grid of the cells that the maze will consist of.
      */
-    public Kruskals(Node[] nodes) {
-        super(nodes);
-
-        LinkedListSet<Integer> nodeSet = new LinkedListSet<>();
-        for (Node node : nodes) {
-            nodeSet.add(node.id);
-        }
-
-        unionFind = new UnionFind<>(nodeSet);
-        currIndex = 0;
-        currEdge = null;
-
-        edges = new List<>();
+    public Kruskals(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
 
-        for (Node node : nodes) {
-            node.neighbors.forEach(neighborId -> {
-                edges.append(new Edge(node.id, neighborId));
-            });
-        }
+    /**
+     * Sets up the maze like the constructor above, shuffling the edges with a given seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     * @param seed The seed for the algorithm's random choices.
+     */
+    public Kruskals(MazeGrid grid, long seed) {
+        super(grid, seed);
 
-        edges.shuffle();
+        rows = grid.getRows();
+        cols = grid.getCols();
+        unionFind = new IntUnionFind(grid.size());
+        currEdge = -1;
     }
 
     /**
@@ -57,56 +58,69 @@ public class Kruskals extends MazeAlgorithm {
      */
     @Override
     protected boolean loopOnceInternal() {
+        if (unionFind.numberOfSets() == 1) {
+            return true; // catch single-cell mazes
+        }
+        if (order == null) {
+            order = new IntPermutation(PackedEdges.count(rows, cols), random);
+        }
+
         // extra loop for selecting edges (better visual)
-        if (currEdge == null) {
-            currEdge = edges.get(currIndex++);
-            changeState(currEdge.node1, State.VISITING);
+        if (currEdge < 0) {
+            currEdge = PackedEdges.edgeAt(order.next(), rows, cols);
+            changeState(PackedEdges.cellOf(currEdge), State.VISITING);
             return false;
         }
 
-        Edge edge = currEdge;
-        currEdge = null;
+        int edge = currEdge;
+        currEdge = -1;
 
-        changeState(edge.node1, State.VISITING);
+        int node1 = PackedEdges.cellOf(edge);
+        int node2 = PackedEdges.neighborOf(edge, cols);
+        changeState(node1, State.VISITING);
 
-        // catch already connected nodes
-        if (unionFind.inSameSet(edge.node1, edge.node2)) {
-            changeState(edge.node1, State.VISITED);
+        // merge the sets of the two nodes, catching already connected nodes
+        if (!unionFind.union(node1, node2)) {
+            changeState(node1, State.VISITED);
             return false;
         }
 
-        // merge the sets of the two nodes and connect them
-        unionFind.union(edge.node1, edge.node2);
-        nodes[edge.node1].connect(nodes[edge.node2]);
+        // connect the two nodes
+        grid.openWall(node1, PackedEdges.directionOf(edge));
 
-        changeState(edge.node1, State.VISITED);
-        changeState(edge.node2, State.VISITED);
+        changeState(node1, State.VISITED);
+        changeState(node2, State.VISITED);
 
         return unionFind.numberOfSets() == 1;
     }
 
     /**
-     * Represents a connection between two nodes in the maze. This helps us keep the edges in order,
-     * which is useful for the union-find structure.
+     * Shuffles an array of every edge and adds edges until all nodes are connected.
+     * Falls back to looping when steps have already been taken.
      */
-    private class Edge {
-        final int node1;
-        final int node2;
-
-        /**
-         * Create an edge between two nodes. We always store the smaller node ID first to keep things orderly.
-         *
-         * @param node1 ID of one node.
-         * @param node2 ID of the other node.
-         */
-        public Edge(int node1, int node2) {
-            // add nodes in sorted order
-            if (node1 < node2) {
-                this.node1 = node1;
-                this.node2 = node2;
-            } else {
-                this.node1 = node2;
-                this.node2 = node1;
+    @Override
+    protected void finishInternal() {
+        if (order != null) {
+            super.finishInternal();
+            return;
+        }
+        if (unionFind.numberOfSets() == 1) {
+            return; // catch single-cell mazes
+        }
+
+        int[] edges = PackedEdges.all(rows, cols);
+        IntPermutation.shuffle(edges, random);
+
+        for (int edge : edges) {
+            int node1 = PackedEdges.cellOf(edge);
+            int node2 = PackedEdges.neighborOf(edge, cols);
+            if (unionFind.union(node1, node2)) {
+                grid.openWall(node1, PackedEdges.directionOf(edge));
+                changeState(node1, State.VISITED);
+                changeState(node2, State.VISITED);
+                if (unionFind.numberOfSets() == 1) {
+                    return;
+                }
             }
         }
     }
@@ -0,0 +1,181 @@
+package com.csc345.core.maze_algorithms.algorithms;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.State;
+import com.csc345.core.maze_algorithms.MazeAlgorithm;
+import com.csc345.data.SplittableRandom;
+
+/**
+ * This class keeps a maze changing forever with the origin shift algorithm.
+ *
+ * The maze is stored as a tree where every node points to its parent, except for one node, the origin,
+ * which is the root. Each step moves the origin to a random neighbor: the old origin points to the new one,
+ * and the new origin stops pointing to its parent. That closes one wall and opens another, and the nodes
+ * still form a tree, so the maze stays perfect after every step and each step takes constant time.
+ *
+ * The algorithm never finishes on its own, so the GUI animates it until a new maze is generated or the maze
+ * is solved, which freezes it where it is, and headless code can loop it for as long as it wants. Finishing immediately runs a fixed number of steps
+ * per node to shuffle the maze, and then stops.
+ */
+public class OriginShift extends MazeAlgorithm {
+
+    public static final int MIXING_STEPS_PER_NODE = 32;
+
+    private static final byte NO_PARENT = -1;
+
+    private final byte[] parents; // direction from each node to its parent, or NO_PARENT for the origin
+    private int originId;
+
+    /**
+     * Initializes the origin shift on a maze with a random seed.
+     *
+     * @param grid the maze grid to change, either with every wall closed or holding a perfect maze
+     */
+    public OriginShift(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Initializes the origin shift on a maze, whose random choices all come from a given seed.
+     * A grid with every wall closed starts out with every row leading east into the last column,
+     * which leads south to the origin in the bottom-right corner. A grid that already holds a perfect maze,
+     * from any other generator, keeps it, with the origin in the bottom-right corner.
+     *
+     * @param grid the maze grid to change, either with every wall closed or holding a perfect maze
+     * @param seed the seed for the algorithm's random choices
+     */
+    public OriginShift(MazeGrid grid, long seed) {
+        super(grid, seed);
+
+        parents = new byte[grid.size()];
+        originId = grid.size() - 1;
+
+        long openWalls = countOpenWalls();
+        if (openWalls == 0) {
+            startWithCorridors();
+        } else if (openWalls == grid.size() - 1) {
+            startWithMaze();
+        } else {
+            throw new IllegalArgumentException("Grid must have every wall closed or hold a perfect maze");
+        }
+
+        changeAllStates(State.VISITED);
+        changeState(originId, State.VISITING);
+    }
+
+    /**
+     * Returns the node the maze currently grows from.
+     *
+     * @return id of the origin
+     */
+    public int getOrigin() {
+        return originId;
+    }
+
+    /**
+     * Returns true, since looping never finishes.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isEndless() {
+        return true;
+    }
+
+    /**
+     * Moves the origin to a random neighbor, closing one wall and opening another.
+     *
+     * @return false, since the maze never stops changing.
+     */
+    @Override
+    protected boolean loopOnceInternal() {
+        int direction = grid.randomDirection(originId, random);
+        if (direction < 0) {
+            return false; // catch single-cell mazes
+        }
+        int nextId = grid.neighbor(originId, direction);
+
+        // close the new origin's wall first, since it may be the same wall that's opened next
+        grid.closeWall(nextId, parents[nextId]);
+        parents[nextId] = NO_PARENT;
+        grid.openWall(originId, direction);
+        parents[originId] = (byte) direction;
+
+        changeState(originId, State.VISITED);
+        changeState(nextId, State.VISITING);
+        originId = nextId;
+
+        return false;
+    }
+
+    /**
+     * Shuffles the maze with a fixed number of steps per node, then stops.
+     */
+    @Override
+    protected void finishInternal() {
+        long steps = (long) grid.size() * MIXING_STEPS_PER_NODE;
+        for (long step = 0; step < steps; step++) {
+            loopOnceInternal();
+        }
+        changeState(originId, State.VISITED);
+    }
+
+    /**
+     * Opens a tree of corridors: every row leads east into the last column, which leads south to the origin.
+     */
+    private void startWithCorridors() {
+        int cols = grid.getCols();
+        for (int id = 0; id < grid.size(); id++) {
+            if (id == originId) {
+                parents[id] = NO_PARENT;
+            } else {
+                parents[id] = (byte) (id % cols != cols - 1 ? MazeGrid.EAST : MazeGrid.SOUTH);
+                grid.openWall(id, parents[id]);
+            }
+        }
+    }
+
+    /**
+     * Points every node to its parent in the maze already in the grid, rooted at the origin,
+     * by walking the maze from the origin.
+     */
+    private void startWithMaze() {
+        int[] stack = new int[grid.size()];
+        int size = 0;
+        int reached = 1;
+        parents[originId] = NO_PARENT;
+        stack[size++] = originId;
+
+        while (size > 0) {
+            int id = stack[--size];
+            for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+                if (grid.isOpen(id, direction) && direction != parents[id]) {
+                    if (reached == grid.size()) {
+                        throw new IllegalArgumentException("Grid must have every wall closed or hold a perfect maze");
+                    }
+                    int childId = grid.neighbor(id, direction);
+                    parents[childId] = (byte) MazeGrid.opposite(direction);
+                    stack[size++] = childId;
+                    reached++;
+                }
+            }
+        }
+
+        if (reached != grid.size()) {
+            throw new IllegalArgumentException("Grid must have every wall closed or hold a perfect maze");
+        }
+    }
+
+    /**
+     * Counts the open walls in the grid, counting each wall once.
+     *
+     * @return the number of open walls
+     */
+    private long countOpenWalls() {
+        long open = 0;
+        for (int id = 0; id < grid.size(); id++) {
+            open += Integer.bitCount(grid.getOpenings(id));
+        }
+        return open / 2;
+    }
+}
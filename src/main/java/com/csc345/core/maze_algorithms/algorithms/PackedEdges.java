@@ -0,0 +1,99 @@
+package com.csc345.core.maze_algorithms.algorithms;
+
+import com.csc345.core.MazeGrid;
+
+/**
+ * Helpers for the Kruskal generators, which store the walls of a rectangle of cells as packed ints.
+ *
+ * Every wall between two cells is listed once, as {@code (cell << 1) | EAST_EDGE} or {@code (cell << 1) | SOUTH_EDGE},
+ * naming the wall on that side of the cell. Edges are indexed with every east wall first, in row-major order,
+ * then every south wall, so the edge at any index can be worked out without listing the others.
+ */
+final class PackedEdges {
+
+    static final int EAST_EDGE = 0;
+    static final int SOUTH_EDGE = 1;
+
+    private PackedEdges() {
+    }
+
+    /**
+     * Returns the number of walls between the cells of a rectangle.
+     *
+     * @param rows number of rows in the rectangle
+     * @param cols number of columns in the rectangle
+     * @return the number of edges
+     */
+    static int count(int rows, int cols) {
+        return rows * (cols - 1) + (rows - 1) * cols;
+    }
+
+    /**
+     * Returns the edge at an index.
+     *
+     * @param index index of the edge
+     * @param rows number of rows in the rectangle
+     * @param cols number of columns in the rectangle
+     * @return the packed edge
+     */
+    static int edgeAt(int index, int rows, int cols) {
+        int eastEdges = rows * (cols - 1);
+        if (index < eastEdges) {
+            int row = index / (cols - 1);
+            return ((index + row) << 1) | EAST_EDGE; // skip the last cell of every row before this one
+        }
+        return ((index - eastEdges) << 1) | SOUTH_EDGE;
+    }
+
+    /**
+     * Lists every edge of a rectangle, in index order.
+     *
+     * @param rows number of rows in the rectangle
+     * @param cols number of columns in the rectangle
+     * @return the packed edges
+     */
+    static int[] all(int rows, int cols) {
+        int[] edges = new int[count(rows, cols)];
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols - 1; col++) {
+                edges[count++] = ((row * cols + col) << 1) | EAST_EDGE;
+            }
+        }
+        for (int cell = 0; cell < (rows - 1) * cols; cell++) {
+            edges[count++] = (cell << 1) | SOUTH_EDGE;
+        }
+        return edges;
+    }
+
+    /**
+     * Returns the cell a packed edge names the wall of.
+     *
+     * @param edge the packed edge
+     * @return index of the cell
+     */
+    static int cellOf(int edge) {
+        return edge >>> 1;
+    }
+
+    /**
+     * Returns the direction of the wall a packed edge names.
+     *
+     * @param edge the packed edge
+     * @return EAST or SOUTH
+     */
+    static int directionOf(int edge) {
+        return (edge & 1) == EAST_EDGE ? MazeGrid.EAST : MazeGrid.SOUTH;
+    }
+
+    /**
+     * Returns the cell on the other side of a packed edge's wall.
+     *
+     * @param edge the packed edge
+     * @param cols number of columns in the rectangle
+     * @return index of the neighboring cell
+     */
+    static int neighborOf(int edge, int cols) {
+        return (edge >>> 1) + ((edge & 1) == EAST_EDGE ? 1 : cols);
+    }
+}
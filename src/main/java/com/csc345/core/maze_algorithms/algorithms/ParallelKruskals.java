@@ -0,0 +1,326 @@
+package com.csc345.core.maze_algorithms.algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.State;
+import com.csc345.core.maze_algorithms.MazeAlgorithm;
+import com.csc345.data.IntPermutation;
+import com.csc345.data.IntUnionFind;
+import com.csc345.data.SplittableRandom;
+
+/**
+ * This class generates a maze with Kruskal's algorithm, split into square tiles so that big mazes
+ * can be generated on every core at once.
+ *
+ * First, every tile runs Kruskal's algorithm on just the edges inside it, with its own union-find, which
+ * makes each tile a perfect maze of its own. Tiles don't share any cells, so they can all be carved at the
+ * same time. Then one pass over the edges on the seams between tiles runs Kruskal's algorithm on the tiles
+ * themselves, joining them into one perfect maze. Every tile shuffles its edges with its own generator,
+ * seeded from the maze's seed and the tile's index, and the seams use the index after the last tile, so a seed
+ * always gives the same maze no matter how many threads carve it, or whether it's carved one step at a time.
+ */
+public class ParallelKruskals extends MazeAlgorithm {
+
+    public static final int DEFAULT_TILE_SIDE = 256;
+
+    private final int rows;
+    private final int cols;
+    private final int tileSide;
+    private final int tileRows;
+    private final int tileCols;
+    private int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+    // progress when looping one step at a time
+    private int currTile; // tile being carved, or the number of tiles once carving the seams
+    private int[] currEdges; // shuffled PackedEdges of the current tile, or of the seams
+    private int currIndex; // next edge in currEdges
+    private IntUnionFind currUnionFind; // union-find over the current tile's cells, or over all tiles
+
+    /**
+     * Sets up the maze with the default tile size and a random seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     */
+    public ParallelKruskals(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Sets up the maze with the default tile size, shuffling the edges with a given seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     * @param seed The seed for the algorithm's random choices.
+     */
+    public ParallelKruskals(MazeGrid grid, long seed) {
+        this(grid, seed, DEFAULT_TILE_SIDE);
+    }
+
+    /**
+     * Sets up the maze with a given tile size, shuffling the edges with a given seed.
+     * The tile size is part of what decides the maze, just like the seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     * @param seed The seed for the algorithm's random choices.
+     * @param tileSide The number of rows and columns in each tile.
+     */
+    public ParallelKruskals(MazeGrid grid, long seed, int tileSide) {
+        super(grid, seed);
+        if (tileSide <= 0) {
+            throw new IllegalArgumentException("Tiles must have at least one row and column");
+        }
+
+        this.rows = grid.getRows();
+        this.cols = grid.getCols();
+        this.tileSide = tileSide;
+        this.tileRows = (rows + tileSide - 1) / tileSide;
+        this.tileCols = (cols + tileSide - 1) / tileSide;
+
+        currTile = -1;
+    }
+
+    /**
+     * Sets the number of threads used when the maze is finished immediately. Doesn't change the maze.
+     *
+     * @param parallelism the number of threads
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Carves edges in the same order as finishing immediately would, one connection per step:
+     * first tile by tile, then along the seams.
+     *
+     * @return true if all nodes are connected, false otherwise.
+     */
+    @Override
+    protected boolean loopOnceInternal() {
+        int tiles = tileRows * tileCols;
+
+        while (true) {
+            if (currEdges == null || currIndex == currEdges.length) {
+                // move on to the next tile, or to the seams
+                if (currTile == tiles) {
+                    return true;
+                }
+                currTile++;
+                currIndex = 0;
+                if (currTile < tiles) {
+                    currEdges = shuffledTileEdges(currTile);
+                    currUnionFind = new IntUnionFind(tileHeight(currTile) * tileWidth(currTile));
+                } else {
+                    currEdges = shuffledSeamEdges();
+                    currUnionFind = new IntUnionFind(tiles);
+                    if (currUnionFind.numberOfSets() == 1) {
+                        return true; // catch single-tile mazes
+                    }
+                }
+                continue;
+            }
+
+            int edge = currEdges[currIndex++];
+            int cell = PackedEdges.cellOf(edge);
+            int id = currTile < tiles ? tileCellId(currTile, cell) : cell;
+            int direction = PackedEdges.directionOf(edge);
+            boolean joined = currTile < tiles
+                    ? currUnionFind.union(cell, PackedEdges.neighborOf(edge, tileWidth(currTile)))
+                    : currUnionFind.union(tileOf(id), tileOf(grid.neighbor(id, direction)));
+
+            if (joined) {
+                grid.openWall(id, direction);
+                changeState(id, State.VISITED);
+                changeState(grid.neighbor(id, direction), State.VISITED);
+                return currTile == tiles && currUnionFind.numberOfSets() == 1;
+            }
+        }
+    }
+
+    /**
+     * Carves every tile in parallel, then joins them along the seams.
+     * Falls back to looping when steps have already been taken, or when changes are tracked,
+     * since the journal can only be written from one thread.
+     */
+    @Override
+    protected void finishInternal() {
+        if (currTile >= 0 || isTrackingChanges()) {
+            super.finishInternal();
+            return;
+        }
+
+        int tiles = tileRows * tileCols;
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new CarveTiles(0, tiles));
+        } finally {
+            pool.shutdown();
+        }
+
+        carveSeams();
+        changeAllStates(State.VISITED);
+        currTile = tiles;
+    }
+
+    /**
+     * Runs Kruskal's algorithm on the edges inside one tile.
+     *
+     * @param tile index of the tile
+     */
+    private void carveTile(int tile) {
+        int width = tileWidth(tile);
+        IntUnionFind unionFind = new IntUnionFind(tileHeight(tile) * width);
+
+        for (int edge : shuffledTileEdges(tile)) {
+            int cell = PackedEdges.cellOf(edge);
+            if (unionFind.union(cell, PackedEdges.neighborOf(edge, width))) {
+                grid.openWall(tileCellId(tile, cell), PackedEdges.directionOf(edge));
+                if (unionFind.numberOfSets() == 1) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs Kruskal's algorithm on the tiles, using the edges along the seams between them.
+     */
+    private void carveSeams() {
+        IntUnionFind unionFind = new IntUnionFind(tileRows * tileCols);
+        if (unionFind.numberOfSets() == 1) {
+            return;
+        }
+
+        for (int edge : shuffledSeamEdges()) {
+            int id = PackedEdges.cellOf(edge);
+            int direction = PackedEdges.directionOf(edge);
+            if (unionFind.union(tileOf(id), tileOf(grid.neighbor(id, direction)))) {
+                grid.openWall(id, direction);
+                if (unionFind.numberOfSets() == 1) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Lists the edges inside a tile, in the order they'll be tried.
+     * Edges name cells by their index within the tile, in row-major order.
+     *
+     * @param tile index of the tile
+     * @return the tile's shuffled edges
+     */
+    private int[] shuffledTileEdges(int tile) {
+        int[] edges = PackedEdges.all(tileHeight(tile), tileWidth(tile));
+        IntPermutation.shuffle(edges, new SplittableRandom(SplittableRandom.derive(getSeed(), tile)));
+        return edges;
+    }
+
+    /**
+     * Lists the edges that cross from one tile to another, in the order they'll be tried.
+     * Edges name cells by their id in the maze.
+     *
+     * @return the seams' shuffled edges
+     */
+    private int[] shuffledSeamEdges() {
+        int[] edges = new int[rows * (tileCols - 1) + cols * (tileRows - 1)];
+
+        int count = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = tileSide - 1; col < cols - 1; col += tileSide) {
+                edges[count++] = ((row * cols + col) << 1) | PackedEdges.EAST_EDGE;
+            }
+        }
+        for (int row = tileSide - 1; row < rows - 1; row += tileSide) {
+            for (int col = 0; col < cols; col++) {
+                edges[count++] = ((row * cols + col) << 1) | PackedEdges.SOUTH_EDGE;
+            }
+        }
+
+        // the seams take the index after the last tile
+        IntPermutation.shuffle(edges, new SplittableRandom(SplittableRandom.derive(getSeed(), tileRows * tileCols)));
+        return edges;
+    }
+
+    /**
+     * Returns the number of rows in a tile, which is smaller than the tile side for the last row of tiles.
+     *
+     * @param tile index of the tile
+     * @return the tile's height
+     */
+    private int tileHeight(int tile) {
+        return Math.min(tileSide, rows - (tile / tileCols) * tileSide);
+    }
+
+    /**
+     * Returns the number of columns in a tile, which is smaller than the tile side for the last column of tiles.
+     *
+     * @param tile index of the tile
+     * @return the tile's width
+     */
+    private int tileWidth(int tile) {
+        return Math.min(tileSide, cols - (tile % tileCols) * tileSide);
+    }
+
+    /**
+     * Converts a cell's index within a tile to its id in the maze.
+     *
+     * @param tile index of the tile
+     * @param cell index of the cell within the tile
+     * @return id of the cell in the maze
+     */
+    private int tileCellId(int tile, int cell) {
+        int width = tileWidth(tile);
+        int row = (tile / tileCols) * tileSide + cell / width;
+        int col = (tile % tileCols) * tileSide + cell % width;
+        return row * cols + col;
+    }
+
+    /**
+     * Returns the index of the tile a cell is in.
+     *
+     * @param id id of the cell in the maze
+     * @return index of the cell's tile
+     */
+    private int tileOf(int id) {
+        return (id / cols / tileSide) * tileCols + (id % cols) / tileSide;
+    }
+
+    /**
+     * Carves a range of tiles, splitting the range in half until each task has a single tile.
+     */
+    @SuppressWarnings("serial") // tasks are never serialized
+    private class CarveTiles extends RecursiveAction {
+        private final int from;
+        private final int to;
+
+        /**
+         * Create a task for the tiles from one index up to another.
+         *
+         * @param from index of the first tile
+         * @param to index after the last tile
+         */
+        CarveTiles(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Carves the tiles, forking one half off to another thread if there's more than one.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    carveTile(from);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new CarveTiles(from, middle), new CarveTiles(middle, to));
+        }
+    }
+}
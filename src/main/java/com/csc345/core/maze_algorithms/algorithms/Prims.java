@@ -1,9 +1,12 @@
 package com.csc345.core.maze_algorithms.algorithms;
 
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.State;
 import com.csc345.core.maze_algorithms.MazeAlgorithm;
-import com.csc345.data.LinkedListSet;
+import com.csc345.data.RandomizedIntSet;
+import com.csc345.data.SplittableRandom;
+import com.csc345.data.functionals.IntCondition;
+import com.csc345.data.functionals.IntConsumer;
 
 /**
  * This class uses Prim's algorithm to generate a maze. Starting from a random node,
@@ -12,24 +15,41 @@ import com.csc345.data.LinkedListSet;
  */
 public class Prims extends MazeAlgorithm {
 
-    private LinkedListSet<Integer> fronteirs;
+    private RandomizedIntSet fronteirs;
+
+    private final IntCondition isVisited = id -> getState(id) == State.VISITED;
+    private final IntConsumer addIfUnvisited = id -> {
+        // fronteir cells are VISITING, so unvisited cells are never already in the fronteirs
+        if (getState(id) == State.UNVISITED) {
+            fronteirs.add(id);
+            changeState(id, State.VISITING);
+        }
+    };
+
     /**
      * Constructor that starts the maze generation from a random node and prepares the frontier set.
      *
-     * @param nodes Array of nodes in the maze. These are the "rooms" or "cells" of our maze.
+     * @param grid Grid of the maze. Its cells are the "rooms" of our maze.
      */
 
-    public Prims(Node[] nodes) {
-        super(nodes);
+    public Prims(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Constructor that starts the maze generation from a random node, with all random choices coming from a given seed.
+     *
+     * @param grid Grid of the maze.
+     * @param seed The seed for the algorithm's random choices.
+     */
+    public Prims(MazeGrid grid, long seed) {
+        super(grid, seed);
 
-        int startId = (int) (Math.random() * nodes.length);
+        int startId = random.nextInt(grid.size());
         changeState(startId, State.VISITED);
 
-        fronteirs = new LinkedListSet<>();
-        nodes[startId].neighbors.forEach(neighborId -> {
-            fronteirs.add(neighborId);
-            changeState(neighborId, State.VISITING);
-        });
+        fronteirs = new RandomizedIntSet(grid.size());
+        grid.forEachNeighbor(startId, addIfUnvisited);
     }
     /**
      * Expands the maze by one node each time it is called. It randomly picks a frontier node,
@@ -39,26 +59,21 @@ public class Prims extends MazeAlgorithm {
      */
     @Override
     protected boolean loopOnceInternal() {
-        Node randomFronteir = nodes[fronteirs.randomElement()];
+        if (fronteirs.isEmpty()) {
+            return true; // catch single-cell mazes
+        }
+
+        int fronteirId = fronteirs.randomElement(random);
 
-        fronteirs.remove(randomFronteir.id);
-        changeState(randomFronteir.id, State.VISITED);
+        fronteirs.remove(fronteirId);
+        changeState(fronteirId, State.VISITED);
 
         // add all unvisited neighbors to the fronteirs
-        LinkedListSet<Integer> unvisitedNeighbors = randomFronteir.neighbors.filter(neighborId -> {
-            return ((states[neighborId] == State.UNVISITED) && (!fronteirs.contains(neighborId)));
-        });
-        unvisitedNeighbors.forEach(neighborId -> {
-            fronteirs.add(neighborId);
-            changeState(neighborId, State.VISITING);
-        });
+        grid.forEachNeighbor(fronteirId, addIfUnvisited);
 
         // connect the random fronteir to a random visited neighbor cell
-        LinkedListSet<Integer> visitedNeighbors = randomFronteir.neighbors.filter(neighborId -> {
-            return states[neighborId] == State.VISITED;
-        });
-        Node randomNeighbor = nodes[visitedNeighbors.randomElement()];
-        randomFronteir.connect(randomNeighbor);
+        int neighborId = grid.randomNeighbor(fronteirId, isVisited, random);
+        grid.connect(fronteirId, neighborId);
 
         return fronteirs.isEmpty();
     }
@@ -0,0 +1,286 @@
+package com.csc345.core.maze_algorithms.algorithms;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.State;
+import com.csc345.core.maze_algorithms.MazeAlgorithm;
+import com.csc345.data.ArrayDeque;
+import com.csc345.data.SplittableRandom;
+
+/**
+ * This class generates a maze with recursive division.
+ *
+ * The whole maze starts as one open chamber. Each chamber is divided in two by a wall across its shorter side,
+ * with a single passage left through the wall, and then both halves are divided the same way until every
+ * chamber is a corridor one cell wide. Since the grid starts with every wall closed, the maze is carved instead
+ * of built: each division only opens its passage, and each corridor opens all the walls along it.
+ *
+ * Chambers never share cells, so the two halves of a chamber can be divided at the same time, which lets
+ * big mazes be generated on every core at once. Every chamber draws from its own generator, seeded by the
+ * chamber it was divided from, so a seed always gives the same maze no matter how many threads divide it,
+ * or whether it's divided one step at a time.
+ */
+public class RecursiveDivision extends MazeAlgorithm {
+
+    private static final int SEQUENTIAL_CELLS = 1 << 14; // chambers this small are divided without forking
+
+    private final int cols;
+    private int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+    // progress when looping one step at a time
+    private ArrayDeque<Chamber> chambers; // chambers still to divide, or null before the first step
+
+    /**
+     * Sets up the maze with a random seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     */
+    public RecursiveDivision(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Sets up the maze, with all random choices coming from a given seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     * @param seed The seed for the algorithm's random choices.
+     */
+    public RecursiveDivision(MazeGrid grid, long seed) {
+        super(grid, seed);
+        this.cols = grid.getCols();
+    }
+
+    /**
+     * Sets the number of threads used when the maze is finished immediately. Doesn't change the maze.
+     *
+     * @param parallelism the number of threads
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Divides the most recent chamber, or carves it if it's a corridor.
+     * Chambers are divided depth-first, so the maze fills in one region at a time.
+     *
+     * @return true if every chamber has been divided, false otherwise.
+     */
+    @Override
+    protected boolean loopOnceInternal() {
+        if (chambers == null) {
+            chambers = new ArrayDeque<>(64);
+            chambers.addLast(new Chamber(0, 0, grid.getRows(), cols, getSeed()));
+        }
+
+        Chamber chamber = chambers.removeLast();
+        if (chamber.height == 1 || chamber.width == 1) {
+            carveCorridor(chamber.row, chamber.col, chamber.height, chamber.width);
+            for (int row = chamber.row; row < chamber.row + chamber.height; row++) {
+                for (int col = chamber.col; col < chamber.col + chamber.width; col++) {
+                    changeState(row * cols + col, State.VISITED);
+                }
+            }
+            return chambers.isEmpty();
+        }
+
+        SplittableRandom random = new SplittableRandom(chamber.seed);
+        int split = divide(chamber.row, chamber.col, chamber.height, chamber.width, random);
+        Chamber[] halves = chamber.halves(split, random);
+
+        // the second half goes first so the first half is divided next
+        chambers.addLast(halves[1]);
+        chambers.addLast(halves[0]);
+        return false;
+    }
+
+    /**
+     * Divides every chamber in parallel.
+     * Falls back to looping when steps have already been taken, or when changes are tracked,
+     * since the journal can only be written from one thread.
+     */
+    @Override
+    protected void finishInternal() {
+        if (chambers != null || isTrackingChanges()) {
+            super.finishInternal();
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.invoke(new DivideChamber(new Chamber(0, 0, grid.getRows(), cols, getSeed())));
+        } finally {
+            pool.shutdown();
+        }
+
+        changeAllStates(State.VISITED);
+        chambers = new ArrayDeque<>(1);
+    }
+
+    /**
+     * Divides a chamber and all the chambers it's divided into, on this thread.
+     * Recurses into the first half of each division and loops on the second half, so no Chamber objects are made.
+     * Every chamber still gets its own generator, seeded like it would be when forking or looping.
+     *
+     * @param row top row of the chamber
+     * @param col left column of the chamber
+     * @param height number of rows in the chamber
+     * @param width number of columns in the chamber
+     * @param seed seed of the chamber's generator
+     */
+    private void divideAll(int row, int col, int height, int width, long seed) {
+        while (height > 1 && width > 1) {
+            SplittableRandom random = new SplittableRandom(seed);
+            int split = divide(row, col, height, width, random);
+            long firstSeed = random.nextLong();
+            seed = random.nextLong();
+
+            if (split > 0) {
+                divideAll(row, col, split, width, firstSeed);
+                row += split;
+                height -= split;
+            } else {
+                divideAll(row, col, height, -split, firstSeed);
+                col -= split;
+                width += split;
+            }
+        }
+        carveCorridor(row, col, height, width);
+    }
+
+    /**
+     * Puts a wall across a chamber, at a random place along its longer side, and opens one random passage
+     * through it. Square chambers are divided either way.
+     *
+     * @param row top row of the chamber
+     * @param col left column of the chamber
+     * @param height number of rows in the chamber, at least 2
+     * @param width number of columns in the chamber, at least 2
+     * @param random the chamber's generator
+     * @return the height of the first half if the wall runs across the rows, or minus its width if the wall
+     *         runs down the columns
+     */
+    private int divide(int row, int col, int height, int width, SplittableRandom random) {
+        boolean acrossRows = height > width || (height == width && random.nextBoolean());
+
+        if (acrossRows) {
+            int split = 1 + random.nextInt(height - 1);
+            int passageCol = col + random.nextInt(width);
+            grid.openWall((row + split - 1) * cols + passageCol, MazeGrid.SOUTH);
+            return split;
+        }
+
+        int split = 1 + random.nextInt(width - 1);
+        int passageRow = row + random.nextInt(height);
+        grid.openWall(passageRow * cols + col + split - 1, MazeGrid.EAST);
+        return -split;
+    }
+
+    /**
+     * Opens every wall along a chamber that's a single row or column.
+     *
+     * @param row top row of the chamber
+     * @param col left column of the chamber
+     * @param height number of rows in the chamber
+     * @param width number of columns in the chamber
+     */
+    private void carveCorridor(int row, int col, int height, int width) {
+        int first = row * cols + col;
+        if (height == 1) {
+            for (int id = first; id < first + width - 1; id++) {
+                grid.openWall(id, MazeGrid.EAST);
+            }
+        } else {
+            for (int id = first; id < first + (height - 1) * cols; id += cols) {
+                grid.openWall(id, MazeGrid.SOUTH);
+            }
+        }
+    }
+
+    /**
+     * A rectangle of cells that hasn't been divided yet, with the seed for its generator.
+     */
+    private static class Chamber {
+        final int row;
+        final int col;
+        final int height;
+        final int width;
+        final long seed;
+
+        /**
+         * Create a chamber.
+         *
+         * @param row top row of the chamber
+         * @param col left column of the chamber
+         * @param height number of rows in the chamber
+         * @param width number of columns in the chamber
+         * @param seed seed of the chamber's generator
+         */
+        Chamber(int row, int col, int height, int width, long seed) {
+            this.row = row;
+            this.col = col;
+            this.height = height;
+            this.width = width;
+            this.seed = seed;
+        }
+
+        /**
+         * Returns the two halves of this chamber after it was divided, seeding them from its generator.
+         *
+         * @param split the value returned by divide
+         * @param random the chamber's generator, after dividing it
+         * @return the first and second half
+         */
+        Chamber[] halves(int split, SplittableRandom random) {
+            long firstSeed = random.nextLong();
+            long secondSeed = random.nextLong();
+            if (split > 0) {
+                return new Chamber[] {
+                    new Chamber(row, col, split, width, firstSeed),
+                    new Chamber(row + split, col, height - split, width, secondSeed)
+                };
+            }
+            return new Chamber[] {
+                new Chamber(row, col, height, -split, firstSeed),
+                new Chamber(row, col - split, height, width + split, secondSeed)
+            };
+        }
+    }
+
+    /**
+     * Divides a chamber, forking its halves off as new tasks until chambers are small enough to divide on one thread.
+     */
+    @SuppressWarnings("serial") // tasks are never serialized
+    private class DivideChamber extends RecursiveAction {
+        private final Chamber chamber;
+
+        /**
+         * Create a task for a chamber.
+         *
+         * @param chamber the chamber to divide
+         */
+        DivideChamber(Chamber chamber) {
+            this.chamber = chamber;
+        }
+
+        /**
+         * Divides the chamber, dividing both halves at the same time if it's big enough.
+         */
+        @Override
+        protected void compute() {
+            if ((long) chamber.height * chamber.width <= SEQUENTIAL_CELLS || chamber.height == 1 || chamber.width == 1) {
+                divideAll(chamber.row, chamber.col, chamber.height, chamber.width, chamber.seed);
+                return;
+            }
+
+            SplittableRandom random = new SplittableRandom(chamber.seed);
+            int split = divide(chamber.row, chamber.col, chamber.height, chamber.width, random);
+            Chamber[] halves = chamber.halves(split, random);
+            invokeAll(new DivideChamber(halves[0]), new DivideChamber(halves[1]));
+        }
+    }
+}
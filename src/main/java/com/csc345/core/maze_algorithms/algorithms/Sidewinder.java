@@ -0,0 +1,72 @@
+package com.csc345.core.maze_algorithms.algorithms;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.maze_algorithms.RowMazeAlgorithm;
+import com.csc345.data.SplittableRandom;
+
+/**
+ * This class generates a maze with the sidewinder algorithm. The top row is one open corridor. Every other row
+ * is split into runs of cells joined east to west, with the point where each run ends picked at random, and every
+ * run opens one random cell's north wall. The maze has a long corridor across the top and leans upward,
+ * but unlike the binary tree algorithm it has no corridor down the side.
+ */
+public class Sidewinder extends RowMazeAlgorithm {
+
+    private static final byte NORTH_WALL = 1 << MazeGrid.NORTH;
+    private static final byte EAST_WALL = 1 << MazeGrid.EAST;
+
+    /**
+     * Sets up the maze with a random seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     */
+    public Sidewinder(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
+
+    /**
+     * Sets up the maze, with all random choices coming from a given seed.
+     *
+     * @param grid Grid of the cells that the maze will consist of.
+     * @param seed The seed for the algorithm's random choices.
+     */
+    public Sidewinder(MazeGrid grid, long seed) {
+        super(grid, seed);
+    }
+
+    /**
+     * Splits the row into runs and opens one north wall in each run.
+     *
+     * @param row index of the row
+     * @param walls filled with the walls to open for each cell
+     * @param random the row's own generator
+     */
+    @Override
+    protected void carveRow(int row, byte[] walls, SplittableRandom random) {
+        int last = walls.length - 1;
+        if (row == 0) {
+            for (int col = 0; col < last; col++) {
+                walls[col] = EAST_WALL;
+            }
+            walls[last] = 0;
+            return;
+        }
+
+        long bits = 0;
+        int runStart = 0;
+        for (int col = 0; col < last; col++) {
+            if ((col & 63) == 0) {
+                bits = random.nextLong();
+            }
+            if (((bits >>> col) & 1) != 0) {
+                walls[col] = EAST_WALL;
+            } else {
+                walls[col] = 0;
+                walls[runStart + random.nextInt(col - runStart + 1)] |= NORTH_WALL;
+                runStart = col + 1;
+            }
+        }
+        walls[last] = 0;
+        walls[runStart + random.nextInt(last - runStart + 1)] |= NORTH_WALL;
+    }
+}
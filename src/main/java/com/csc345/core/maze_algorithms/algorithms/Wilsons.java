@@ -1,124 +1,167 @@
 package com.csc345.core.maze_algorithms.algorithms;
 
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.State;
 import com.csc345.core.maze_algorithms.MazeAlgorithm;
-import com.csc345.data.LinkedListSet;
-import com.csc345.data.ArrayDeque;
+import com.csc345.data.SplittableRandom;
 
 /**
  * This class implements Wilson's algorithm for maze generation. The algorithm ensures a uniform spanning tree
- * by using a loop-erased random walk. It starts with a set of unvisited nodes and gradually adds them to the maze
- * using a path that eventually connects back to the already visited nodes.
+ * by using a loop-erased random walk. It starts with a single node in the maze and, from each node that isn't
+ * in the maze yet, walks randomly until the walk reaches the maze, then adds the walk to the maze with its loops erased.
+ *
+ * Instead of storing the walk, every node remembers the direction the walk last left it in. Following those
+ * directions from the start of the walk gives the walk with every loop already erased, so adding it to the maze
+ * takes one pass, and nothing is allocated while walking.
  */
 public class Wilsons extends MazeAlgorithm {
 
-    LinkedListSet<Integer> visitedNodes;
-    LinkedListSet<Integer> unvisitedNodes;
-    ArrayDeque<Integer> currentPath;
+    private final long[] inMaze; // bitset of the nodes already in the maze
+    private final byte[] exits; // direction the walk last left each node in
+    private int nextStart; // no node before this one is missing from the maze
+    private int walkStart; // node the current walk started from, or -1 between walks
+    private int walkId; // node the current walk is at
 
     /**
      * it initializes the maze generation with a random starting node marked as visited.
      * All other nodes are initially unvisited.
      *
-     * @param nodes Array of nodes used for generating the maze.
+     * @param grid Grid of the maze to generate.
      */
-    public Wilsons(Node[] nodes) {
-        super(nodes);
-
-        visitedNodes = new LinkedListSet<>();
-        unvisitedNodes = new LinkedListSet<>();
-        currentPath = new ArrayDeque<>(nodes.length);
+    public Wilsons(MazeGrid grid) {
+        this(grid, SplittableRandom.newSeed());
+    }
 
-        for (Node node : nodes) {
-            unvisitedNodes.add(node.id);
-        }
+    /**
+     * Initializes the maze generation like the constructor above, with all random choices coming from a given seed.
+     *
+     * @param grid Grid of the maze to generate.
+     * @param seed The seed for the algorithm's random choices.
+     */
+    public Wilsons(MazeGrid grid, long seed) {
+        super(grid, seed);
 
-        int startId = (int) (Math.random() * nodes.length);
+        inMaze = new long[(grid.size() + 63) >>> 6];
+        exits = new byte[grid.size()];
+        nextStart = 0;
+        walkStart = -1;
 
-        unvisitedNodes.remove(startId);
-        visitedNodes.add(startId);
+        int startId = random.nextInt(grid.size());
+        addToMaze(startId);
 
         changeState(startId, State.VISITED);
     }
 
     /**
-     * Executes one iteration of the maze generation. It either extends the current path,
-     * closes a loop, or finishes the path if it connects to the visited area.
+     * Executes one iteration of the maze generation. It either starts a new walk, takes one random step
+     * of the current walk, or adds the walk to the maze once it reaches the maze.
      *
      * @return true if all nodes are connected (i.e., there are no unvisited nodes left), false otherwise.
      */
     @Override
     protected boolean loopOnceInternal() {
-        if (currentPath.isEmpty()) {
-            startNewPath();
+        if (walkStart < 0) {
+            if (!findNextStart()) {
+                return true; // catch single-cell mazes
+            }
+            walkStart = nextStart;
+            walkId = nextStart;
+            changeState(walkId, State.VISITING);
             return false;
         }
 
-        Node current = nodes[currentPath.getLast()];
+        int direction = grid.randomDirection(walkId, random);
+        int nextId = grid.neighbor(walkId, direction);
+        exits[walkId] = (byte) direction;
 
-        // get a random neighbor, not including the preceding node
-        LinkedListSet<Integer> neighborsWithoutPreceding = current.neighbors.filter(neighborId -> {
-            if (currentPath.getSize() == 1) {
-                return true;
+        if (isInMaze(nextId)) {
+            addWalkToMaze(true);
+            return !findNextStart();
+        }
+
+        if (getState(nextId) == State.VISITING) {
+            // stepping back onto the walk makes a loop, which only needs to be erased from the display
+            for (int id = grid.neighbor(nextId, exits[nextId]); id != nextId; id = grid.neighbor(id, exits[id])) {
+                changeState(id, State.UNVISITED);
             }
-            int precedingId = currentPath.getRelativeToEnd(1);
-            return neighborId != precedingId;
-        });
-        int randomId = neighborsWithoutPreceding.randomElement();
-
-        if (visitedNodes.contains(randomId)) {
-            current.connect(nodes[randomId]);
-            transferPathToMaze();
-        } else if (currentPath.contains(randomId)) {
-            deleteLoop(randomId);
         } else {
-            currentPath.addLast(randomId);
-            current.connect(nodes[randomId]);
-            changeState(randomId, State.VISITING);
+            changeState(nextId, State.VISITING);
         }
+        walkId = nextId;
 
-        return unvisitedNodes.isEmpty();
+        return false;
     }
 
     /**
-     * Starts a new random walk from a random unvisited node.
+     * Runs every walk in one tight loop without updating states, which are all set at the end.
+     * Falls back to looping in the middle of a walk, or when changes are tracked.
      */
-    private void startNewPath() {
-        int randomId = unvisitedNodes.randomElement();
-        currentPath.addLast(randomId);
-        changeState(randomId, State.VISITING);
+    @Override
+    protected void finishInternal() {
+        if (walkStart >= 0 || isTrackingChanges()) {
+            super.finishInternal();
+            return;
+        }
+
+        while (findNextStart()) {
+            walkStart = nextStart;
+            int id = walkStart;
+            while (!isInMaze(id)) {
+                int direction = grid.randomDirection(id, random);
+                exits[id] = (byte) direction;
+                id = grid.neighbor(id, direction);
+            }
+            addWalkToMaze(false);
+        }
+
+        changeAllStates(State.VISITED);
     }
 
     /**
-     * Transfers the current path to the maze, marking all nodes in the path as visited
-     * and removing them from the unvisited set.
+     * Adds the current walk to the maze by following each node's last exit from the start of the walk,
+     * which skips every loop the walk made.
+     *
+     * @param updateStates whether to mark the added nodes as visited
+     */
+    private void addWalkToMaze(boolean updateStates) {
+        for (int id = walkStart; !isInMaze(id); id = grid.neighbor(id, exits[id])) {
+            addToMaze(id);
+            grid.openWall(id, exits[id]);
+            if (updateStates) {
+                changeState(id, State.VISITED);
+            }
+        }
+        walkStart = -1;
+    }
+
+    /**
+     * Moves on to the first node that isn't in the maze yet.
+     *
+     * @return true if there is such a node, false if every node is in the maze.
+     */
+    private boolean findNextStart() {
+        while (nextStart < grid.size() && isInMaze(nextStart)) {
+            nextStart++;
+        }
+        return nextStart < grid.size();
+    }
+
+    /**
+     * Checks if a node is in the maze.
+     *
+     * @param id The ID of the node.
+     * @return true if the node is in the maze, false otherwise.
      */
-    private void transferPathToMaze() {
-        currentPath.forEach(neighborId -> {
-            visitedNodes.add(neighborId);
-            unvisitedNodes.remove(neighborId);
-            changeState(neighborId, State.VISITED);
-        });
-        currentPath.clear();
+    private boolean isInMaze(int id) {
+        return (inMaze[id >>> 6] & (1L << id)) != 0;
     }
 
     /**
-     * Removes a loop in the current path if the current node is already in the path.
-     * This is necessary to maintain the acyclic property of the spanning tree.
+     * Marks a node as being in the maze.
      *
-     * @param endId The ID of the node where the loop closes.
+     * @param id The ID of the node.
      */
-    private void deleteLoop(int endId) {
-        int prevId;
-        int currId;
-
-        do {
-            prevId = currentPath.removeLast();
-            currId = currentPath.getLast();
-            changeState(prevId, State.UNVISITED);
-            nodes[currId].disconnect(nodes[prevId]);
-        } while (currId != endId);
+    private void addToMaze(int id) {
+        inMaze[id >>> 6] |= 1L << id;
     }
-    
 }
@@ -0,0 +1,93 @@
+package com.csc345.core.solve_algorithms;
+
+import com.csc345.data.functionals.IntToDoubleFunction;
+
+/**
+ * Enum for the distance estimates A-Star can use, called Heuristics.
+ *
+ * A heuristic is bound to one goal cell: the goal's row and column are worked out once,
+ * and the returned function only needs one division per call to find the row and column of a cell.
+ * Nothing is allocated or boxed per call.
+ */
+public enum Heuristic {
+    MANHATTAN("Manhattan"),
+    EUCLIDEAN("Euclidean"),
+    OCTILE("Octile");
+
+    private static final double DIAGONAL_EXTRA = Math.sqrt(2) - 1; // extra cost of a diagonal step over a straight one
+
+    private final String name;
+
+    /**
+     * Constructor for Heuristic. Requires a name.
+     * 
+     * @param name name of the heuristic
+     */
+    Heuristic(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the heuristic.
+     * 
+     * @return the name of the heuristic
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Converts the enum to a string.
+     * 
+     * @return the name of the heuristic
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Creates the heuristic function for a given goal cell.
+     * 
+     * @param cols number of columns in the maze
+     * @param goalId id of the goal cell
+     * @return function that takes a cell id and returns its estimated distance to the goal
+     */
+    public IntToDoubleFunction toGoal(int cols, int goalId) {
+        int goalRow = goalId / cols;
+        int goalCol = goalId - goalRow * cols;
+
+        switch (this) {
+            case MANHATTAN:
+                return id -> {
+                    int row = id / cols;
+                    return Math.abs(row - goalRow) + Math.abs(id - row * cols - goalCol);
+                };
+            case EUCLIDEAN:
+                return id -> {
+                    int row = id / cols;
+                    int rowDistance = row - goalRow;
+                    int colDistance = id - row * cols - goalCol;
+                    return Math.sqrt((double) rowDistance * rowDistance + (double) colDistance * colDistance);
+                };
+            case OCTILE:
+                return id -> {
+                    int row = id / cols;
+                    int rowDistance = Math.abs(row - goalRow);
+                    int colDistance = Math.abs(id - row * cols - goalCol);
+                    return Math.max(rowDistance, colDistance) + DIAGONAL_EXTRA * Math.min(rowDistance, colDistance);
+                };
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the default Heuristic.
+     * 
+     * @return the default Heuristic
+     */
+    public static Heuristic defaultValue() {
+        return MANHATTAN;
+    }
+}
@@ -2,11 +2,11 @@ package com.csc345.core.solve_algorithms;
 
 
 import com.csc345.core.Algorithm;
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.State;
 
 import com.csc345.data.List;
-import com.csc345.data.HashMap;
+import com.csc345.data.DenseIntIntMap;
 
 /**
  * This is an abstract class for solving algorithms like finding paths through a maze or network.
@@ -20,22 +20,20 @@ public abstract class SolveAlgorithm extends Algorithm {
     protected List<Integer> path = new List<>();
 
     /**
-     * Constructor for solve algorithms. It sets up the nodes array and marks them all as visited
+     * Constructor for solve algorithms. It marks all the nodes as visited
      * to begin with (though you might change this in your specific algorithm).
      *
-     * @param nodes An array of all the nodes in the graph or maze.
+     * @param grid The grid of the maze to solve.
      * @param startId The ID of the node where we start.
      * @param endId The ID of the node we're trying to reach.
      */
-    public SolveAlgorithm(Node[] nodes, int startId, int endId) {
-        super(nodes);
+    public SolveAlgorithm(MazeGrid grid, int startId, int endId) {
+        super(grid);
 
         this.startId = startId;
         this.endId = endId;
 
-        for (int i = 0; i < nodes.length; i++) {
-            changeState(i, State.VISITED);
-        }
+        changeAllStates(State.VISITED);
     }
     /**
      * Gets the path taken by the solve algorithm from start to finish.
@@ -71,17 +69,16 @@ public abstract class SolveAlgorithm extends Algorithm {
      * @param firstId The ID of the first node in the path (usually the end node in the pathfinding context).
      * @return A list representing the reconstructed path.
      */
-    protected static List<Integer> reconstructPath(HashMap<Integer, Integer> cameFrom, int firstId) {
+    protected static List<Integer> reconstructPath(DenseIntIntMap cameFrom, int firstId) {
         List<Integer> path = new List<>();
         path.append(firstId);
 
-        Integer currentId = firstId;
+        int currentId = firstId;
 
-        do {
-            currentId = cameFrom.get(currentId);
-            if (currentId == null) break;
+        while (cameFrom.containsKey(currentId)) {
+            currentId = cameFrom.getOrDefault(currentId, -1);
             path.append(currentId);
-        } while (true);
+        }
 
         // reverse path
         path.reverse();
@@ -1,10 +1,12 @@
 package com.csc345.core.solve_algorithms;
 
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.AlgorithmType;
 import com.csc345.core.solve_algorithms.algorithms.*;
 
 import com.csc345.data.functionals.BiFunction;
+import com.csc345.data.functionals.IntIntToDoubleFunction;
+import com.csc345.data.functionals.IntToDoubleFunction;
 
 /**
  * Enum for all SolveAlgorithm subclasses, called Types.
@@ -48,27 +50,68 @@ public enum SolveAlgorithmType implements AlgorithmType {
     /**
      * Converts the enum to an initialized SolveAlgorithm
      * 
-     * @param nodes the maze nodes to solve
+     * @param grid the maze grid to solve
      * @param startId the start node id
      * @param endId the end node id
-     * @param heuristicFunction the heuristic function (for A-Star)
+     * @param heuristic the heuristic (for A-Star), which is bound to the end node
+     * @return the initialized SolveAlgorithm
+     */
+    public SolveAlgorithm getAlgorithm(MazeGrid grid, int startId, int endId, Heuristic heuristic) {
+        return getAlgorithm(grid, startId, endId, heuristic.toGoal(grid.getCols(), endId));
+    }
+
+    /**
+     * Converts the enum to an initialized SolveAlgorithm
+     * 
+     * @param grid the maze grid to solve
+     * @param startId the start node id
+     * @param endId the end node id
+     * @param heuristicFunction the heuristic function (for A-Star), from a node id to its estimated distance to the end node
      * @return the initialized SolveAlgorithm
      */
-    public SolveAlgorithm getAlgorithm(Node[] nodes, int startId, int endId, BiFunction<Integer, Integer, Double> heuristicFunction) {
+    public SolveAlgorithm getAlgorithm(MazeGrid grid, int startId, int endId, IntToDoubleFunction heuristicFunction) {
         switch (this) {
             case ASTAR:
-                return new AStar(nodes, startId, endId, heuristicFunction);
+                return new AStar(grid, startId, endId, heuristicFunction);
             case DIJKSTRA:
-                return new AStar(nodes, startId, endId, (a, b) -> 0.0);
+                return new Dijkstra(grid, startId, endId);
             case BREADTH:
-                return new Breadth(nodes, startId, endId);
+                return new Breadth(grid, startId, endId);
             case TREMAUX:
-                return new Tremaux(nodes, startId, endId);
+                return new Tremaux(grid, startId, endId);
             default:
                 return null;
         }
     }
 
+    /**
+     * Converts the enum to an initialized SolveAlgorithm
+     * 
+     * @param grid the maze grid to solve
+     * @param startId the start node id
+     * @param endId the end node id
+     * @param heuristicFunction the heuristic function (for A-Star), from two node ids to their estimated distance
+     * @return the initialized SolveAlgorithm
+     */
+    public SolveAlgorithm getAlgorithm(MazeGrid grid, int startId, int endId, IntIntToDoubleFunction heuristicFunction) {
+        return getAlgorithm(grid, startId, endId, (IntToDoubleFunction) id -> heuristicFunction.apply(id, endId));
+    }
+
+    /**
+     * Converts the enum to an initialized SolveAlgorithm, using a heuristic function on boxed ids.
+     * Prefer getAlgorithm, since this one boxes on every heuristic call. It has its own name because
+     * a two-argument lambda would fit both this and the IntIntToDoubleFunction overload.
+     * 
+     * @param grid the maze grid to solve
+     * @param startId the start node id
+     * @param endId the end node id
+     * @param heuristicFunction the heuristic function (for A-Star)
+     * @return the initialized SolveAlgorithm
+     */
+    public SolveAlgorithm getAlgorithmBoxed(MazeGrid grid, int startId, int endId, BiFunction<Integer, Integer, Double> heuristicFunction) {
+        return getAlgorithm(grid, startId, endId, (IntIntToDoubleFunction) heuristicFunction::apply);
+    }
+
     /**
      * Returns the default SolveAlgorithmType.
      * 
@@ -1,10 +1,12 @@
 package com.csc345.core.solve_algorithms.algorithms;
 
 import com.csc345.core.solve_algorithms.SolveAlgorithm;
-import com.csc345.data.PriorityQueue;
-import com.csc345.data.HashMap;
-import com.csc345.data.functionals.BiFunction;
-import com.csc345.core.Node;
+import com.csc345.data.IndexedMinHeap;
+import com.csc345.data.DenseIntIntMap;
+import com.csc345.data.DenseIntDoubleMap;
+import com.csc345.data.functionals.IntIntToDoubleFunction;
+import com.csc345.data.functionals.IntToDoubleFunction;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.State;
 
 /**
@@ -14,32 +16,45 @@ import com.csc345.core.State;
  */
 public class AStar extends SolveAlgorithm {
     
-    private HashMap<Integer, Integer> cameFrom = new HashMap<>();
-    private HashMap<Integer, Double> gScores = new HashMap<>();
-    private HashMap<Integer, Double> fScores = new HashMap<>();
+    private DenseIntIntMap cameFrom;
+    private DenseIntDoubleMap gScores;
 
-    private PriorityQueue<Integer, Double> openQueue;
-    private BiFunction<Integer, Integer, Double> heuristic;
+    private IndexedMinHeap openQueue; // open nodes, keyed by their f-score
+    private IntToDoubleFunction heuristic; // estimated distance from a node to the end node
     
     /**
      * Initializese a new A* algorithm with a specific start node, end node, and heuristic.
      *
-     * @param nodes An array of all nodes in the graph.
+     * @param grid The grid of the maze.
      * @param startId The ID of the start node.
      * @param endId The ID of the end node.
      * @param heuristic A function that estimates the cost from any node to the end node.
      */
-    public AStar(Node[] nodes, int startId, int endId, BiFunction<Integer, Integer, Double> heuristic) {
-        super(nodes, startId, endId);
+    public AStar(MazeGrid grid, int startId, int endId, IntToDoubleFunction heuristic) {
+        super(grid, startId, endId);
         this.heuristic = heuristic;
 
-        this.openQueue = new PriorityQueue<>(id -> fScores.getOrDefault(id, Double.POSITIVE_INFINITY));
+        this.cameFrom = new DenseIntIntMap(grid.size());
+        this.gScores = new DenseIntDoubleMap(grid.size());
+        this.openQueue = new IndexedMinHeap(grid.size());
 
-        openQueue.insert(startId);
         gScores.put(startId, 0.0);
-        fScores.put(startId, heuristic.apply(startId, endId));
+        openQueue.insert(startId, heuristic.apply(startId));
         changeState(startId, State.VISITING);
     }
+
+    /**
+     * Initializese a new A* algorithm with a heuristic that takes both the node and the end node.
+     *
+     * @param grid The grid of the maze.
+     * @param startId The ID of the start node.
+     * @param endId The ID of the end node.
+     * @param heuristic A function that estimates the cost between any two nodes.
+     */
+    public AStar(MazeGrid grid, int startId, int endId, IntIntToDoubleFunction heuristic) {
+        this(grid, startId, endId, (IntToDoubleFunction) id -> heuristic.apply(id, endId));
+    }
+
     /**
      * Runs one iteration of the A* algorithm. It picks the node with the lowest estimated cost,
      * checks if it’s the end node, and if not, it processes its neighbors and updates their scores.
@@ -62,23 +77,27 @@ public class AStar extends SolveAlgorithm {
             return true;
         }
 
-        Node current = nodes[currentId];
+        double tentativeGScore = gScores.getOrDefault(currentId, Double.POSITIVE_INFINITY) + 1; // 1 is the distance between two nodes
 
-        current.connections.forEach(connectionId -> {
-            double tentativeGScore = gScores.get(currentId) + 1; // 1 is the distance between two nodes
+        for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+            if (!grid.isOpen(currentId, direction)) {
+                continue;
+            }
+            int connectionId = grid.neighbor(currentId, direction);
 
-            if (!gScores.containsKey(connectionId) || tentativeGScore < gScores.get(connectionId)) {
+            if (tentativeGScore < gScores.getOrDefault(connectionId, Double.POSITIVE_INFINITY)) {
                 cameFrom.put(connectionId, currentId);
                 gScores.put(connectionId, tentativeGScore);
-                double fScore = tentativeGScore + heuristic.apply(connectionId, endId);
-                fScores.put(connectionId, fScore);
+                double fScore = tentativeGScore + heuristic.apply(connectionId);
 
-                if (!openQueue.contains(connectionId)) {
-                    openQueue.insert(connectionId);
+                if (openQueue.contains(connectionId)) {
+                    openQueue.decreaseKey(connectionId, fScore); // repair the node's heap position
+                } else {
+                    openQueue.insert(connectionId, fScore);
                     changeState(connectionId, State.VISITING);
                 }
             }
-        });
+        }
 
         return false;
     }
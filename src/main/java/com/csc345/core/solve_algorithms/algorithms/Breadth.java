@@ -1,11 +1,11 @@
 package com.csc345.core.solve_algorithms.algorithms;
 
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.State;
 import com.csc345.core.solve_algorithms.SolveAlgorithm;
 
-import com.csc345.data.ArrayDeque;
-import com.csc345.data.HashMap;
+import com.csc345.data.IntArrayDeque;
+import com.csc345.data.DenseIntIntMap;
 
 /**
  * This class implements the Breadth-First Search (BFS) algorithm to find the shortest path in a graph.
@@ -14,22 +14,22 @@ import com.csc345.data.HashMap;
  */
 public class Breadth extends SolveAlgorithm {
 
-    private ArrayDeque<Integer> queue;
-    private HashMap<Integer, Integer> cameFrom;
+    private IntArrayDeque queue;
+    private DenseIntIntMap cameFrom;
     
     /**
      * Sets up the BFS with a start and an end node. It initializes the queue and marks the start node
      * as visiting to kick off the search.
      *
-     * @param nodes An array of all nodes in the graph.
+     * @param grid The grid of the maze.
      * @param startId The ID of the start node.
      * @param endId The ID of the end node.
      */
-    public Breadth(Node[] nodes, int startId, int endId) {
-        super(nodes, startId, endId);
+    public Breadth(MazeGrid grid, int startId, int endId) {
+        super(grid, startId, endId);
 
-        queue = new ArrayDeque<>(nodes.length);
-        cameFrom = new HashMap<>();
+        queue = new IntArrayDeque(grid.size());
+        cameFrom = new DenseIntIntMap(grid.size());
 
         changeState(startId, State.VISITING);
         queue.addLast(startId);
@@ -42,9 +42,16 @@ public class Breadth extends SolveAlgorithm {
      */
     @Override
     protected boolean loopOnceInternal() {
-        ArrayDeque<Integer> nextQueue = new ArrayDeque<>(queue.getSize());
+        if (queue.isEmpty()) {
+            // no path found
+            System.out.println("No path found");
+            return true;
+        }
 
-        do {
+        // only process the current level; nodes added below belong to the next one
+        int levelSize = queue.getSize();
+
+        for (int i = 0; i < levelSize; i++) {
             int currentId = queue.removeFirst();
 
             if (currentId == endId) {
@@ -52,17 +59,19 @@ public class Breadth extends SolveAlgorithm {
                 return true;
             }
 
-            Node current = nodes[currentId];
-            current.connections.forEach(connectionId -> {
-                if (states[connectionId] == State.VISITED) {
+            for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+                if (!grid.isOpen(currentId, direction)) {
+                    continue;
+                }
+                int connectionId = grid.neighbor(currentId, direction);
+                if (getState(connectionId) == State.VISITED) {
                     cameFrom.put(connectionId, currentId);
                     changeState(connectionId, State.VISITING);
-                    nextQueue.addLast(connectionId);
+                    queue.addLast(connectionId);
                 }
-            });
-        } while (!queue.isEmpty());
+            }
+        }
 
-        queue = nextQueue;
         return false;
     }
 }
@@ -0,0 +1,89 @@
+package com.csc345.core.solve_algorithms.algorithms;
+
+import com.csc345.core.MazeGrid;
+import com.csc345.core.State;
+import com.csc345.core.solve_algorithms.SolveAlgorithm;
+
+import com.csc345.data.BucketQueue;
+import com.csc345.data.DenseIntIntMap;
+
+/**
+ * This class implements Dijkstra's algorithm to find the shortest path from a start node to an end node.
+ * Every passage in the maze has the same integer length, so instead of a heap it uses Dial's bucket queue:
+ * distances are plain ints, and picking the closest open node is O(1).
+ */
+public class Dijkstra extends SolveAlgorithm {
+
+    private static final int EDGE_WEIGHT = 1; // distance between two connected nodes
+
+    private int[] distances; // shortest known distance from the start, or Integer.MAX_VALUE if not reached
+    private DenseIntIntMap cameFrom;
+    private BucketQueue openQueue; // open nodes, keyed by their distance
+
+    /**
+     * Sets up Dijkstra's algorithm with a start and an end node. Only the start node's distance is known.
+     *
+     * @param grid The grid of the maze.
+     * @param startId The ID of the start node.
+     * @param endId The ID of the end node.
+     */
+    public Dijkstra(MazeGrid grid, int startId, int endId) {
+        super(grid, startId, endId);
+
+        distances = new int[grid.size()];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = Integer.MAX_VALUE;
+        }
+        cameFrom = new DenseIntIntMap(grid.size());
+        openQueue = new BucketQueue(grid.size(), EDGE_WEIGHT);
+
+        distances[startId] = 0;
+        openQueue.insert(startId, 0);
+        changeState(startId, State.VISITING);
+    }
+
+    /**
+     * Runs one iteration of Dijkstra's algorithm. It takes the closest open node, checks if it's the end node,
+     * and if not, shortens the distances of its connections through it.
+     *
+     * @return true if the end node is reached or the open queue is empty (no path found), false otherwise.
+     */
+    @Override
+    protected boolean loopOnceInternal() {
+        if (openQueue.isEmpty()) {
+            // no path found
+            System.out.println("No path found");
+            return true;
+        }
+
+        int currentId = openQueue.poll();
+
+        if (currentId == endId) {
+            this.path = reconstructPath(cameFrom, endId);
+            return true;
+        }
+
+        int tentativeDistance = distances[currentId] + EDGE_WEIGHT;
+
+        for (int direction = 0; direction < MazeGrid.DIRECTIONS; direction++) {
+            if (!grid.isOpen(currentId, direction)) {
+                continue;
+            }
+            int connectionId = grid.neighbor(currentId, direction);
+
+            if (tentativeDistance < distances[connectionId]) {
+                cameFrom.put(connectionId, currentId);
+                distances[connectionId] = tentativeDistance;
+
+                if (openQueue.contains(connectionId)) {
+                    openQueue.decreaseKey(connectionId, tentativeDistance);
+                } else {
+                    openQueue.insert(connectionId, tentativeDistance);
+                    changeState(connectionId, State.VISITING);
+                }
+            }
+        }
+
+        return false;
+    }
+}
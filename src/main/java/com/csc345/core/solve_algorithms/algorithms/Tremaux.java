@@ -1,9 +1,9 @@
 package com.csc345.core.solve_algorithms.algorithms;
 
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.State;
 import com.csc345.core.solve_algorithms.SolveAlgorithm;
-import com.csc345.data.LinkedListSet;
+import com.csc345.data.functionals.IntCondition;
 
 /**
  * This class implements Trémaux's algorithm, a cool old-school maze-solving method.
@@ -11,18 +11,20 @@ import com.csc345.data.LinkedListSet;
  * go down the same path twice unless you need to backtrack.
  */
 public class Tremaux extends SolveAlgorithm {
-    
+
+    private final IntCondition isUnexplored = id -> getState(id) == State.VISITED;
+
     /**
      * Sets up the maze with the starting point marked as visiting. This is where
      * the journey through the maze begins.
      *
-     * @param nodes An array of all nodes in the maze.
+     * @param grid The grid of the maze.
      * @param startId The ID of the node where we start.
      * @param endId The ID of the node where we hope to end up.
      */
 
-    public Tremaux(Node[] nodes, int startId, int endId) {
-        super(nodes, startId, endId);
+    public Tremaux(MazeGrid grid, int startId, int endId) {
+        super(grid, startId, endId);
 
         path.append(startId);
         changeState(startId, State.VISITING);
@@ -36,19 +38,16 @@ public class Tremaux extends SolveAlgorithm {
      */
     @Override
     protected boolean loopOnceInternal() {
+        if (path.size() == 0) {
+            System.out.println("No path found");
+            return true;
+        }
         int currentId = path.getLast();
 
-        LinkedListSet<Integer> unvisitedConnections = nodes[currentId].connections.filter(connectionId -> {
-            if (path.size() > 1) {
-                int previousId = path.get(path.size() - 2);
-                return (states[connectionId] == State.VISITED) && (connectionId != previousId);
-            } else {
-                return states[connectionId] == State.VISITED;
-            }
-        });
-
-        if (!unvisitedConnections.isEmpty()) {
-            int randomId = unvisitedConnections.randomElement();
+        // the previous node on the path is still VISITING, so only unexplored connections match
+        int randomId = grid.randomConnection(currentId, isUnexplored);
+
+        if (randomId >= 0) {
             path.append(randomId);
             changeState(randomId, State.VISITING);
             return randomId == endId;
@@ -0,0 +1,189 @@
+package com.csc345.data;
+
+/**
+ * A monotone priority queue of int ids in a fixed range {@code 0..capacity-1}, with small int priorities.
+ *
+ * This is the bucket queue from Dial's algorithm: ids are kept in one bucket per priority, and because
+ * Dijkstra's algorithm never inserts a priority lower than the last one polled, or more than the largest
+ * edge weight above it, only {@code maxWeight + 1} buckets are ever in use and they can be reused in a ring.
+ * Each bucket is a doubly linked list threaded through int arrays, so insert, decreaseKey and poll are
+ * O(1) (poll is amortized over the buckets it skips) and nothing is allocated after construction.
+ */
+public class BucketQueue {
+    private int[] heads; // first id in each bucket, or -1 if the bucket is empty
+    private int[] next; // next id in the same bucket, or -1
+    private int[] prev; // previous id in the same bucket, or -1
+    private int[] priorities; // priority of each id, or -1 if not contained
+    private int maxWeight;
+    private int current; // lowest priority that can still be in the queue
+    private int size;
+
+    /**
+     * Creates a new, empty queue for ids in the range {@code 0..capacity-1}.
+     *
+     * @param capacity the number of possible ids
+     * @param maxWeight the largest amount a priority may exceed the last polled priority by
+     */
+    public BucketQueue(int capacity, int maxWeight) {
+        if (maxWeight < 0) {
+            throw new IllegalArgumentException("maxWeight must not be negative");
+        }
+        this.maxWeight = maxWeight;
+        heads = new int[maxWeight + 1];
+        next = new int[capacity];
+        prev = new int[capacity];
+        priorities = new int[capacity];
+        for (int i = 0; i < heads.length; i++) {
+            heads[i] = -1;
+        }
+        for (int i = 0; i < capacity; i++) {
+            priorities[i] = -1;
+        }
+    }
+
+    /**
+     * Inserts a new id into the queue with a given priority.
+     *
+     * @param id the id to insert, which must not already be in the queue
+     * @param priority the id's priority, between the last polled priority and maxWeight above it
+     */
+    public void insert(int id, int priority) {
+        if (contains(id)) {
+            throw new IllegalArgumentException("id already exists in the queue");
+        }
+        requireInRange(priority);
+        link(id, priority);
+        size++;
+    }
+
+    /**
+     * Lowers the priority of an id that's already in the queue.
+     *
+     * @param id the id to update
+     * @param priority the new priority, which must not be greater than the current one
+     */
+    public void decreaseKey(int id, int priority) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("id does not exist in the queue");
+        }
+        if (priority > priorities[id]) {
+            throw new IllegalArgumentException("priority can only be decreased");
+        }
+        requireInRange(priority);
+        unlink(id);
+        link(id, priority);
+    }
+
+    /**
+     * Removes and returns an id with the lowest priority. Ids with equal priority come out newest first.
+     *
+     * @return an id with the lowest priority
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalArgumentException("Queue is empty");
+        }
+        while (heads[bucket(current)] < 0) {
+            current++;
+        }
+        int result = heads[bucket(current)];
+        unlink(result);
+        priorities[result] = -1;
+        size--;
+        return result;
+    }
+
+    /**
+     * Returns whether an id is currently in the queue.
+     *
+     * @param id requested id
+     * @return whether the id is in the queue
+     */
+    public boolean contains(int id) {
+        return priorities[id] >= 0;
+    }
+
+    /**
+     * Returns the priority of an id in the queue.
+     *
+     * @param id requested id
+     * @return the id's priority, or -1 if it's not in the queue
+     */
+    public int getPriority(int id) {
+        return priorities[id];
+    }
+
+    /**
+     * Returns the number of ids in the queue.
+     *
+     * @return the size of the queue
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the queue is empty.
+     *
+     * @return whether the queue is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the ring index of the bucket for a given priority.
+     *
+     * @param priority the priority
+     * @return index into heads
+     */
+    private int bucket(int priority) {
+        return priority % heads.length;
+    }
+
+    /**
+     * Adds an id to the front of its priority's bucket.
+     *
+     * @param id the id to add
+     * @param priority the id's priority
+     */
+    private void link(int id, int priority) {
+        int bucket = bucket(priority);
+        int head = heads[bucket];
+        next[id] = head;
+        prev[id] = -1;
+        if (head >= 0) {
+            prev[head] = id;
+        }
+        heads[bucket] = id;
+        priorities[id] = priority;
+    }
+
+    /**
+     * Removes an id from its bucket.
+     *
+     * @param id the id to remove
+     */
+    private void unlink(int id) {
+        if (prev[id] >= 0) {
+            next[prev[id]] = next[id];
+        } else {
+            heads[bucket(priorities[id])] = next[id];
+        }
+        if (next[id] >= 0) {
+            prev[next[id]] = prev[id];
+        }
+    }
+
+    /**
+     * Throws if a priority falls outside the window of buckets currently in use.
+     *
+     * @param priority the priority to check
+     */
+    private void requireInRange(int priority) {
+        if (priority < current || priority - current > maxWeight) {
+            throw new IllegalArgumentException("priority " + priority + " is outside the range "
+                    + current + ".." + (current + maxWeight));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.csc345.data;
+
+/**
+ * A map from primitive int keys to primitive double values, for keys in a fixed range {@code 0..capacity-1}.
+ *
+ * Values are stored directly at their key's index, and key presence is tracked in a bitset,
+ * so every operation is a single array access. Use this instead of {@link IntDoubleMap} when the key
+ * space is dense and known up front, such as the node ids of a maze.
+ */
+public class DenseIntDoubleMap {
+    private double[] values;
+    private long[] present;
+    private int size;
+
+    /**
+     * Constructs a new, empty map for keys in the range {@code 0..capacity-1}.
+     *
+     * @param capacity the number of possible keys
+     */
+    public DenseIntDoubleMap(int capacity) {
+        values = new double[capacity];
+        present = new long[(capacity + 63) >>> 6];
+    }
+
+    /**
+     * Puts a new key and value in the map, replacing any existing value for the key.
+     *
+     * @param key the new key
+     * @param value the new value
+     */
+    public void put(int key, double value) {
+        long bit = 1L << key;
+        int word = key >>> 6;
+        if ((present[word] & bit) == 0) {
+            present[word] |= bit;
+            size++;
+        }
+        values[key] = value;
+    }
+
+    /**
+     * Returns the requested key's value, or a given default value.
+     *
+     * @param key requested key
+     * @param defaultValue default value in case requested key doesn't exist
+     * @return requested value, or default value
+     */
+    public double getOrDefault(int key, double defaultValue) {
+        return containsKey(key) ? values[key] : defaultValue;
+    }
+
+    /**
+     * Returns whether a key is contained within the map.
+     *
+     * @param key requested key
+     * @return whether requested key has a value
+     */
+    public boolean containsKey(int key) {
+        return (present[key >>> 6] & (1L << key)) != 0;
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries from the map. The arrays are kept for reuse.
+     */
+    public void clear() {
+        for (int i = 0; i < present.length; i++) {
+            present[i] = 0;
+        }
+        size = 0;
+    }
+}
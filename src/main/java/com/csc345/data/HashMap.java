@@ -1,103 +1,158 @@
 package com.csc345.data;
 
+import com.csc345.data.functionals.Function;
+
 /**
  * A generic hash map implementation that uses separate chaining to handle collisions.
+ *
+ * The table size is always a power of two and doubles once the map holds more than
+ * {@code LOAD_FACTOR} entries per bucket, so chains stay short as the map grows.
  */
 public class HashMap<K, V> {
-    
+
     /**
      * A generic Entry in the HashMap.
      */
-    private static class Entry<K, V> {
+    public static class Entry<K, V> {
         final K key;
+        final int hash;
         V value;
         Entry<K, V> next;
 
         /**
-         * Constructs a new Entry with the given key, value, and next Entry.
-         * 
+         * Constructs a new Entry with the given key, hash, value, and next Entry.
+         *
          * @param key the Entry's key
+         * @param hash the Entry's spread hash
          * @param value the Entry's value
          * @param next the next Entry in the chain
          */
-        public Entry(K key, V value, Entry<K, V> next) {
+        Entry(K key, int hash, V value, Entry<K, V> next) {
             this.key = key;
+            this.hash = hash;
             this.value = value;
             this.next = next;
         }
+
+        /**
+         * Returns the Entry's key.
+         *
+         * @return the Entry's key
+         */
+        public K getKey() {
+            return key;
+        }
+
+        /**
+         * Returns the Entry's value.
+         *
+         * @return the Entry's value
+         */
+        public V getValue() {
+            return value;
+        }
     }
-    
+
     private Entry<K, V>[] table;
     private int size;
-    private static final int INITIAL_CAPAITY = 500;
+    private int threshold; // size at which the table is resized
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
 
     /**
-     * Constructs a new HashMap with an initial capacity of 500.
+     * Constructs a new HashMap with an initial capacity of 16.
      */
-    @SuppressWarnings("unchecked")
     public HashMap() {
-        table = (Entry<K, V>[]) new Entry[INITIAL_CAPAITY];
+        allocate(INITIAL_CAPACITY);
     }
 
     /**
      * Puts a new key and value in the map.
-     * 
+     *
      * @param key the new key
      * @param value the new value
      */
     public void put(K key, V value) {
-        int index = getIndex(key);
-        Entry<K, V> newEntry = new Entry<>(key, value, null);
-
-        if (table[index] == null) {
-            table[index] = newEntry;
-        } else {
-            Entry<K, V> current = table[index];
-            Entry<K, V> prev = null;
-            while (current != null) {
-                if (current.key.equals(key)) {
-                    current.value = value;
-                    return;
-                }
-                prev = current;
-                current = current.next;
-            }
-            prev.next = newEntry;
+        int hash = hash(key);
+        Entry<K, V> entry = findEntry(key, hash);
+        if (entry != null) {
+            entry.value = value;
+            return;
         }
-        size++;
+        addEntry(key, hash, value);
     }
 
     /**
      * Gets a key's value.
-     * 
+     *
      * @param key requested key
-     * @return requested value
+     * @return requested value, or null if the key isn't in the map
      */
     public V get(K key) {
-        int index = getIndex(key);
-        Entry<K, V> entry = table[index];
-        while (entry != null) {
-            if (entry.key.equals(key)) {
-                return entry.value;
-            }
-            entry = entry.next;
-        }
-        return null;
+        Entry<K, V> entry = findEntry(key, hash(key));
+        return entry == null ? null : entry.value;
     }
 
     /**
      * Returns whether a key is contained within the map.
-     * 
+     *
      * @param key requested key
      * @return whether requested key has a value
      */
     public boolean containsKey(K key) {
-        return get(key) != null;
+        return findEntry(key, hash(key)) != null;
+    }
+
+    /**
+     * Removes a key and its value from the map.
+     *
+     * @param key the key to remove
+     * @return the removed value, or null if the key wasn't in the map
+     */
+    public V remove(K key) {
+        int hash = hash(key);
+        int index = hash & (table.length - 1);
+
+        Entry<K, V> prev = null;
+        Entry<K, V> current = table[index];
+        while (current != null) {
+            if (current.hash == hash && current.key.equals(key)) {
+                if (prev == null) {
+                    table[index] = current.next;
+                } else {
+                    prev.next = current.next;
+                }
+                size--;
+                return current.value;
+            }
+            prev = current;
+            current = current.next;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the requested key's value, computing and storing it first if the key isn't in the map.
+     *
+     * @param key requested key
+     * @param mappingFunction function that computes the value for a missing key
+     * @return the existing or computed value
+     */
+    public V computeIfAbsent(K key, Function<K, V> mappingFunction) {
+        int hash = hash(key);
+        Entry<K, V> entry = findEntry(key, hash);
+        if (entry != null) {
+            return entry.value;
+        }
+        V value = mappingFunction.apply(key);
+        addEntry(key, hash, value);
+        return value;
     }
 
     /**
      * Returns the size of the map.
-     * 
+     *
      * @return the size of the map
      */
     public int size() {
@@ -106,7 +161,7 @@ public class HashMap<K, V> {
 
     /**
      * Returns a set of all keys within the map in a List
-     * 
+     *
      * @return a list of all keys in the map
      */
     public List<K> keySet() {
@@ -120,9 +175,56 @@ public class HashMap<K, V> {
         return keys;
     }
 
+    /**
+     * Returns an iterator over all entries in the map, in no particular order.
+     * The map must not be modified while iterating.
+     *
+     * @return an iterator over the map's entries
+     */
+    public Iterator<Entry<K, V>> iterator() {
+        return new Iterator<Entry<K, V>>() {
+            private int index = 0;
+            private Entry<K, V> next = advance(null);
+
+            /**
+             * Finds the entry after a given one, moving on to the next non-empty bucket if needed.
+             *
+             * @param current the current entry, or null to start from the current bucket index
+             * @return the next entry, or null if there are none left
+             */
+            private Entry<K, V> advance(Entry<K, V> current) {
+                if (current != null && current.next != null) {
+                    return current.next;
+                }
+                while (index < table.length) {
+                    Entry<K, V> bucket = table[index++];
+                    if (bucket != null) {
+                        return bucket;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Entry<K, V> next() {
+                if (next == null) {
+                    throw new IllegalArgumentException("No more entries");
+                }
+                Entry<K, V> current = next;
+                next = advance(current);
+                return current;
+            }
+        };
+    }
+
     /**
      * Returns the requested key's value, or a given default value
-     * 
+     *
      * @param key requested key
      * @param defaultValue default value in case requested key doesn't exist
      * @return requested value, or default value
@@ -133,12 +235,78 @@ public class HashMap<K, V> {
     }
 
     /**
-     * Gets the index in the hashmap that's associated with the key.
-     * 
+     * Finds the entry for a key.
+     *
+     * @param key requested key
+     * @param hash the key's spread hash
+     * @return the key's entry, or null if the key isn't in the map
+     */
+    private Entry<K, V> findEntry(K key, int hash) {
+        Entry<K, V> entry = table[hash & (table.length - 1)];
+        while (entry != null) {
+            if (entry.hash == hash && entry.key.equals(key)) {
+                return entry;
+            }
+            entry = entry.next;
+        }
+        return null;
+    }
+
+    /**
+     * Adds a new entry for a key that isn't in the map yet, resizing the table if needed.
+     *
+     * @param key the new key
+     * @param hash the key's spread hash
+     * @param value the new value
+     */
+    private void addEntry(K key, int hash, V value) {
+        int index = hash & (table.length - 1);
+        table[index] = new Entry<>(key, hash, value, table[index]);
+        if (++size > threshold) {
+            resize(table.length * 2);
+        }
+    }
+
+    /**
+     * Resizes the table to a given capacity, moving every entry to its new bucket.
+     *
+     * @param capacity new table capacity, a power of two
+     */
+    private void resize(int capacity) {
+        Entry<K, V>[] oldTable = table;
+        allocate(capacity);
+
+        int mask = capacity - 1;
+        for (Entry<K, V> entry : oldTable) {
+            while (entry != null) {
+                Entry<K, V> next = entry.next;
+                int index = entry.hash & mask;
+                entry.next = table[index];
+                table[index] = entry;
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Allocates an empty table of a given capacity.
+     *
+     * @param capacity new table capacity, a power of two
+     */
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        table = (Entry<K, V>[]) new Entry[capacity];
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Spreads the high bits of a key's hash code into the low bits used to pick a bucket.
+     *
      * @param key requested key
-     * @return requested index
+     * @return the spread hash
      */
-    private int getIndex(K key) {
-        return key.hashCode() % table.length;
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
     }
 }
@@ -0,0 +1,179 @@
+package com.csc345.data;
+
+/**
+ * A binary min heap of int ids in a fixed range {@code 0..capacity-1}, ordered by a double priority per id.
+ *
+ * The heap keeps the position of every id it contains, so {@code contains} is O(1)
+ * and an id's priority can be lowered in place with an O(log n) {@code decreaseKey}.
+ */
+public class IndexedMinHeap {
+    private int[] heap; // ids in heap order
+    private int[] positions; // index of each id in the heap, or -1 if not contained
+    private double[] priorities; // priority of each id
+    private int size;
+
+    /**
+     * Creates a new, empty heap for ids in the range {@code 0..capacity-1}.
+     *
+     * @param capacity the number of possible ids
+     */
+    public IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new double[capacity];
+        for (int i = 0; i < capacity; i++) {
+            positions[i] = -1;
+        }
+    }
+
+    /**
+     * Inserts a new id into the heap with a given priority.
+     *
+     * @param id the id to insert, which must not already be in the heap
+     * @param priority the id's priority
+     */
+    public void insert(int id, double priority) {
+        if (contains(id)) {
+            throw new IllegalArgumentException("id already exists in the heap");
+        }
+        priorities[id] = priority;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Lowers the priority of an id that's already in the heap.
+     *
+     * @param id the id to update
+     * @param priority the new priority, which must not be greater than the current one
+     */
+    public void decreaseKey(int id, double priority) {
+        if (!contains(id)) {
+            throw new IllegalArgumentException("id does not exist in the heap");
+        }
+        if (priority > priorities[id]) {
+            throw new IllegalArgumentException("priority can only be decreased");
+        }
+        priorities[id] = priority;
+        siftUp(positions[id]);
+    }
+
+    /**
+     * Returns the id with the lowest priority without removing it.
+     *
+     * @return the top id of the heap
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new IllegalArgumentException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Removes and returns the id with the lowest priority.
+     *
+     * @return the (former) top id of the heap
+     */
+    public int poll() {
+        if (size == 0) {
+            throw new IllegalArgumentException("Heap is empty");
+        }
+        int result = heap[0];
+        positions[result] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether an id is currently in the heap.
+     *
+     * @param id requested id
+     * @return whether the id is in the heap
+     */
+    public boolean contains(int id) {
+        return positions[id] >= 0;
+    }
+
+    /**
+     * Returns the priority an id was last given.
+     *
+     * @param id requested id
+     * @return the id's priority
+     */
+    public double getPriority(int id) {
+        return priorities[id];
+    }
+
+    /**
+     * Returns the number of ids in the heap.
+     *
+     * @return the size of the heap
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the heap is empty.
+     *
+     * @return whether the heap is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Sifts up from a given index to retain the heap property.
+     *
+     * @param idx the index to sift up from
+     */
+    private void siftUp(int idx) {
+        int id = heap[idx];
+        double priority = priorities[id];
+        while (idx > 0) {
+            int parentIdx = (idx - 1) >>> 1;
+            int parent = heap[parentIdx];
+            if (priority >= priorities[parent]) {
+                break;
+            }
+            heap[idx] = parent;
+            positions[parent] = idx;
+            idx = parentIdx;
+        }
+        heap[idx] = id;
+        positions[id] = idx;
+    }
+
+    /**
+     * Sifts down from a given index to retain the heap property.
+     *
+     * @param idx the index to sift down from
+     */
+    private void siftDown(int idx) {
+        int id = heap[idx];
+        double priority = priorities[id];
+        int half = size >>> 1;
+        while (idx < half) {
+            int childIdx = 2 * idx + 1;
+            int rightIdx = childIdx + 1;
+            if (rightIdx < size && priorities[heap[rightIdx]] < priorities[heap[childIdx]]) {
+                childIdx = rightIdx;
+            }
+            int child = heap[childIdx];
+            if (priority <= priorities[child]) {
+                break;
+            }
+            heap[idx] = child;
+            positions[child] = idx;
+            idx = childIdx;
+        }
+        heap[idx] = id;
+        positions[id] = idx;
+    }
+}
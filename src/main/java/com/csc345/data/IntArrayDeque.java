@@ -0,0 +1,211 @@
+package com.csc345.data;
+
+import com.csc345.data.functionals.IntConsumer;
+
+/**
+ * An array-based implementation of a deque of primitive ints.
+ *
+ * Elements are stored unboxed in a ring buffer whose capacity is always a power of two,
+ * so wrapping around the buffer is a bit mask instead of a modulo.
+ */
+public class IntArrayDeque {
+    private static final int MIN_CAPACITY = 8;
+
+    private int[] elements; // Ring buffer to store deque elements
+    private int mask; // elements.length - 1, used to wrap indices
+    private int size = 0; // Number of elements in the deque
+    private int head = 0; // Index of the head element in the array
+
+    /**
+     * Initialize a new deque with a given initial capacity.
+     * The capacity is rounded up to the next power of two.
+     *
+     * @param capacity the initial capacity of the deque
+     */
+    public IntArrayDeque(int capacity) {
+        elements = new int[roundUpToPowerOfTwo(capacity)];
+        mask = elements.length - 1;
+    }
+
+    /**
+     * Adds an element to the start of the deque.
+     *
+     * @param e element to add
+     */
+    public void addFirst(int e) {
+        if (size == elements.length) {
+            resize(elements.length * 2); // Double the size
+        }
+        head = (head - 1) & mask; // Circular decrement
+        elements[head] = e;
+        size++;
+    }
+
+    /**
+     * Adds an element to the end of the deque.
+     *
+     * @param e element to add
+     */
+    public void addLast(int e) {
+        if (size == elements.length) {
+            resize(elements.length * 2); // Double the size
+        }
+        elements[(head + size) & mask] = e;
+        size++;
+    }
+
+    /**
+     * Returns the element at the start of the deque.
+     *
+     * @return element at start of deque
+     */
+    public int getFirst() {
+        if (isEmpty()) {
+            throw new IllegalArgumentException("Deque is empty");
+        }
+        return elements[head];
+    }
+
+    /**
+     * Returns the element at the end of the deque.
+     *
+     * @return element at end of deque
+     */
+    public int getLast() {
+        if (isEmpty()) {
+            throw new IllegalArgumentException("Deque is empty");
+        }
+        return elements[(head + size - 1) & mask];
+    }
+
+    /**
+     * Returns the size of the deque.
+     *
+     * @return size of the deque
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns whether the deque contains an element.
+     *
+     * @param e requested element
+     * @return whether the element is in the deque
+     */
+    public boolean contains(int e) {
+        for (int i = 0; i < size; i++) {
+            if (elements[(head + i) & mask] == e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a value relative to the end of the deque.
+     *
+     * @param displacement desired displacement from the end of the deque
+     * @return value at given displacement from the end
+     */
+    public int getRelativeToEnd(int displacement) {
+        if (displacement < 0 || displacement >= size) {
+            throw new IllegalArgumentException("Invalid displacement");
+        }
+        return elements[(head + size - 1 - displacement) & mask];
+    }
+
+    /**
+     * Removes and returns the value at the start of the deque.
+     *
+     * @return removed value
+     */
+    public int removeFirst() {
+        if (isEmpty()) {
+            throw new IllegalArgumentException("Deque is empty");
+        }
+        int removed = elements[head];
+        head = (head + 1) & mask; // Circular increment
+        size--;
+        if (isEmpty()) {
+            head = 0; // Reset pointers if empty
+        }
+        return removed;
+    }
+
+    /**
+     * Removes and returns the value at the end of the deque.
+     *
+     * @return removed value
+     */
+    public int removeLast() {
+        if (isEmpty()) {
+            throw new IllegalArgumentException("Deque is empty");
+        }
+        int removed = elements[(head + size - 1) & mask];
+        size--;
+        if (isEmpty()) {
+            head = 0; // Reset pointers if empty
+        }
+        return removed;
+    }
+
+    /**
+     * Returns whether the deque is empty.
+     *
+     * @return whether the deque is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Resizes the deque to a given capacity, which must be a power of two.
+     *
+     * @param capacity new deque capacity
+     */
+    private void resize(int capacity) {
+        int[] temp = new int[capacity];
+        for (int i = 0; i < size; i++) { // Copy elements in order, starting from head
+            temp[i] = elements[(head + i) & mask];
+        }
+        elements = temp;
+        mask = capacity - 1;
+        head = 0;
+    }
+
+    /**
+     * Runs a given consumer action for all values in the deque, from start to end.
+     *
+     * @param action the action to run for all values
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[(head + i) & mask]);
+        }
+    }
+
+    /**
+     * Clears the deque. The backing array is kept for reuse.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Rounds a requested capacity up to the next power of two.
+     *
+     * @param capacity requested capacity
+     * @return the smallest power of two that is at least the capacity
+     */
+    private static int roundUpToPowerOfTwo(int capacity) {
+        if (capacity <= MIN_CAPACITY) {
+            return MIN_CAPACITY;
+        }
+        if (capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity too large: " + capacity);
+        }
+        return Integer.highestOneBit(capacity - 1) << 1;
+    }
+}
@@ -0,0 +1,151 @@
+package com.csc345.data;
+
+/**
+ * A hash map from primitive int keys to primitive int values.
+ *
+ * Uses open addressing with linear probing, so entries are stored directly in parallel arrays
+ * and no per-entry objects are allocated. The table is kept at a power-of-two size and doubles
+ * whenever it becomes more than half full.
+ */
+public class IntIntMap {
+    private static final int MIN_CAPACITY = 16;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9; // 2^32 / golden ratio
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int shift; // 32 - log2(table length), used to take the top bits of the hash
+    private int size;
+
+    /**
+     * Constructs a new, empty map.
+     */
+    public IntIntMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty map that can hold a given number of entries without resizing.
+     *
+     * @param expectedSize the number of entries the map is expected to hold
+     */
+    public IntIntMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Puts a new key and value in the map, replacing any existing value for the key.
+     *
+     * @param key the new key
+     * @param value the new value
+     */
+    public void put(int key, int value) {
+        int index = findSlot(key);
+        if (used[index]) {
+            values[index] = value;
+            return;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        used[index] = true;
+        size++;
+
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    /**
+     * Returns the requested key's value, or a given default value.
+     *
+     * @param key requested key
+     * @param defaultValue default value in case requested key doesn't exist
+     * @return requested value, or default value
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        int index = findSlot(key);
+        return used[index] ? values[index] : defaultValue;
+    }
+
+    /**
+     * Returns whether a key is contained within the map.
+     *
+     * @param key requested key
+     * @return whether requested key has a value
+     */
+    public boolean containsKey(int key) {
+        return used[findSlot(key)];
+    }
+
+    /**
+     * Returns the size of the map.
+     *
+     * @return the size of the map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries from the map. The table is kept for reuse.
+     */
+    public void clear() {
+        for (int i = 0; i < used.length; i++) {
+            used[i] = false;
+        }
+        size = 0;
+    }
+
+    /**
+     * Finds the slot that holds a key, or the empty slot where it would be inserted.
+     *
+     * @param key requested key
+     * @return index of the key's slot
+     */
+    private int findSlot(int key) {
+        int mask = keys.length - 1;
+        int index = (key * HASH_MULTIPLIER) >>> shift;
+        while (used[index] && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * Allocates empty tables of a given power-of-two capacity.
+     *
+     * @param capacity new table capacity
+     */
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        shift = Integer.numberOfLeadingZeros(capacity) + 1;
+    }
+
+    /**
+     * Resizes the table to a given capacity and reinserts all entries.
+     *
+     * @param capacity new table capacity
+     */
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int index = findSlot(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                used[index] = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.csc345.data;
+
+/**
+ * A uniformly random permutation of the ints {@code 0..size-1}, drawn one element at a time.
+ *
+ * It runs a Fisher-Yates shuffle of {@code 0, 1, ..., size-1} lazily: each draw swaps a random later position
+ * into the next position and returns it. Positions that were never swapped still hold their own index, so only
+ * the swapped ones are remembered, in an IntIntMap. Memory grows with the number of draws instead of the size,
+ * and nothing is allocated up front.
+ */
+public class IntPermutation {
+    private final int size;
+    private final SplittableRandom random;
+    private final IntIntMap swapped; // value at each position that no longer holds its own index
+    private int next; // number of elements drawn so far
+
+    /**
+     * Creates a new permutation of the ints {@code 0..size-1}.
+     *
+     * @param size the number of elements
+     * @param random the generator to draw from
+     */
+    public IntPermutation(int size, SplittableRandom random) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        this.size = size;
+        this.random = random;
+        this.swapped = new IntIntMap();
+    }
+
+    /**
+     * Returns whether there are elements left to draw.
+     *
+     * @return true if fewer than size elements have been drawn
+     */
+    public boolean hasNext() {
+        return next < size;
+    }
+
+    /**
+     * Draws the next element of the permutation.
+     *
+     * @return the next element
+     */
+    public int next() {
+        if (next == size) {
+            throw new IllegalArgumentException("Permutation has no elements left");
+        }
+        int position = next + random.nextInt(size - next);
+        int value = swapped.getOrDefault(position, position);
+        if (position != next) {
+            swapped.put(position, swapped.getOrDefault(next, next));
+        }
+        next++;
+        return value;
+    }
+
+    /**
+     * Shuffles an array in place with the same draws a permutation makes, so an array holding
+     * {@code 0..length-1} ends up in the same order a permutation of its length would draw with the same generator.
+     * Every order is equally likely.
+     *
+     * @param array the array to shuffle
+     * @param random the generator to draw from
+     */
+    public static void shuffle(int[] array, SplittableRandom random) {
+        for (int i = 0; i < array.length - 1; i++) {
+            int j = i + random.nextInt(array.length - i);
+            int temp = array[i];
+            array[i] = array[j];
+            array[j] = temp;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.csc345.data;
+
+/**
+ * A disjoint set over the int elements {@code 0..size-1} that uses the union-find algorithm.
+ *
+ * Parents are stored in an {@code int[]} and ranks in a {@code byte[]} (ranks never exceed 31),
+ * so the structure takes five bytes per element and allocates nothing after construction.
+ * Finds use path halving and unions are by rank.
+ */
+public class IntUnionFind {
+    private int[] parent;
+    private byte[] rank;
+    private int numberOfSets;
+
+    /**
+     * Initializes a new IntUnionFind where every element is in its own set.
+     *
+     * @param size number of elements
+     */
+    public IntUnionFind(int size) {
+        parent = new int[size];
+        rank = new byte[size];
+        reset();
+    }
+
+    /**
+     * Finds the root of the set containing a given element.
+     * Also applies path halving to flatten the structure for future finds.
+     *
+     * @param element requested element
+     * @return the root of the element's set
+     */
+    public int find(int element) {
+        while (parent[element] != element) {
+            parent[element] = parent[parent[element]]; // point to grandparent
+            element = parent[element];
+        }
+        return element;
+    }
+
+    /**
+     * Creates a union between the sets containing two given elements.
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return whether the elements were in different sets before the union
+     */
+    public boolean union(int element1, int element2) {
+        int root1 = find(element1);
+        int root2 = find(element2);
+
+        // check if already in the same set
+        if (root1 == root2) {
+            return false;
+        }
+
+        if (rank[root1] < rank[root2]) {
+            parent[root1] = root2;
+        } else if (rank[root1] > rank[root2]) {
+            parent[root2] = root1;
+        } else {
+            parent[root2] = root1;
+            rank[root1]++;
+        }
+        numberOfSets--;
+        return true;
+    }
+
+    /**
+     * Returns whether two elements are in the same set.
+     *
+     * @param element1 first element
+     * @param element2 second element
+     * @return whether the elements are in the same set
+     */
+    public boolean inSameSet(int element1, int element2) {
+        return find(element1) == find(element2);
+    }
+
+    /**
+     * Returns the number of sets in the structure.
+     *
+     * @return the number of sets
+     */
+    public int numberOfSets() {
+        return numberOfSets;
+    }
+
+    /**
+     * Returns the number of elements in the structure.
+     *
+     * @return the size of the structure
+     */
+    public int size() {
+        return parent.length;
+    }
+
+    /**
+     * Resets the structure, removing all unions.
+     */
+    public void reset() {
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+            rank[i] = 0;
+        }
+        numberOfSets = parent.length;
+    }
+}
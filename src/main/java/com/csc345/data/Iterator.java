@@ -0,0 +1,21 @@
+package com.csc345.data;
+
+/**
+ * Iterates over the elements of a collection, one at a time.
+ */
+public interface Iterator<E> {
+
+    /**
+     * Returns whether the iteration has more elements.
+     *
+     * @return whether there is a next element
+     */
+    boolean hasNext();
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @return the next element
+     */
+    E next();
+}
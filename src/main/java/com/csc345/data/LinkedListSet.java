@@ -138,16 +138,77 @@ public class LinkedListSet<T> {
         return filteredSet;
     }
 
+    /**
+     * Counts the elements of the set that match a given condition, without allocating.
+     * 
+     * @param condition the condition to apply to all elements
+     * @return the number of matching elements
+     */
+    public int countMatching(Condition<T> condition) {
+        int count = 0;
+        Node current = head;
+        while (current != null) {
+            if (condition.test(current.data)) {
+                count++;
+            }
+            current = current.next;
+        }
+        return count;
+    }
+
+    /**
+     * Get a random element among those that match a given condition. Returns null if none match.
+     * Uses reservoir sampling, so the set is walked once and nothing is allocated.
+     * 
+     * @param condition the condition to apply to all elements
+     * @return the random matching element
+     */
+    public T randomMatching(Condition<T> condition) {
+        return randomMatching(condition, null);
+    }
+
+    /**
+     * Get a random element among those that match a given condition, using a given generator.
+     * Returns null if none match.
+     * 
+     * @param condition the condition to apply to all elements
+     * @param random the generator to draw from, or null to use Math.random()
+     * @return the random matching element
+     */
+    public T randomMatching(Condition<T> condition, SplittableRandom random) {
+        T chosen = null;
+        int count = 0;
+        Node current = head;
+        while (current != null) {
+            // keep the i-th match with probability 1/i
+            if (condition.test(current.data) && randomIndex(++count, random) == 0) {
+                chosen = current.data;
+            }
+            current = current.next;
+        }
+        return chosen;
+    }
+
     /**
      * Get a random element from the set. Returns null for empty sets.
      * 
      * @return the random element
      */
     public T randomElement() {
+        return randomElement(null);
+    }
+
+    /**
+     * Get a random element from the set, using a given generator. Returns null for empty sets.
+     * 
+     * @param random the generator to draw from, or null to use Math.random()
+     * @return the random element
+     */
+    public T randomElement(SplittableRandom random) {
         if (size == 0) {
             return null;
         }
-        int randomIndex = (int) (Math.random() * size);
+        int randomIndex = randomIndex(size, random);
         Node current = head;
         for (int i = 0; i < randomIndex; i++) {
             current = current.next;
@@ -155,6 +216,17 @@ public class LinkedListSet<T> {
         return current.data;
     }
 
+    /**
+     * Returns a uniformly random index in the range {@code 0..bound-1}.
+     * 
+     * @param bound the exclusive upper bound
+     * @param random the generator to draw from, or null to use Math.random()
+     * @return the random index
+     */
+    protected static int randomIndex(int bound, SplittableRandom random) {
+        return random != null ? random.nextInt(bound) : (int) (Math.random() * bound);
+    }
+
     /**
      * Returns whether the set is empty.
      * 
@@ -108,11 +108,25 @@ public class List<E> {
     }
 
     /**
-     * Randomly shuffles the order of the list.
+     * Randomly shuffles the order of the list, with every order equally likely (Fisher-Yates).
      */
     public void shuffle() {
-        for (int i = 0; i < size; i++) {
-            int randomIndex = (int) (Math.random() * size);
+        for (int i = size - 1; i > 0; i--) {
+            int randomIndex = (int) (Math.random() * (i + 1));
+            E temp = elements[i];
+            elements[i] = elements[randomIndex];
+            elements[randomIndex] = temp;
+        }
+    }
+
+    /**
+     * Randomly shuffles the order of the list, using a given generator, with every order equally likely (Fisher-Yates).
+     * 
+     * @param random the generator to draw from
+     */
+    public void shuffle(SplittableRandom random) {
+        for (int i = size - 1; i > 0; i--) {
+            int randomIndex = random.nextInt(i + 1);
             E temp = elements[i];
             elements[i] = elements[randomIndex];
             elements[randomIndex] = temp;
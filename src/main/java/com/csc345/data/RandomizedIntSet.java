@@ -0,0 +1,125 @@
+package com.csc345.data;
+
+import com.csc345.data.functionals.IntConsumer;
+
+/**
+ * A set of int elements in a fixed range {@code 0..capacity-1} that supports uniform random picks.
+ *
+ * Elements are kept packed at the front of a dense array, and a position index records where each
+ * element sits. Removing an element moves the last element into its slot, so add, remove, contains
+ * and randomElement are all O(1).
+ */
+public class RandomizedIntSet {
+    private int[] elements; // the set's elements, packed into indices 0..size-1
+    private int[] positions; // index of each element in elements, or -1 if not in the set
+    private int size;
+
+    /**
+     * Initialize a new, empty set for elements in the range {@code 0..capacity-1}.
+     *
+     * @param capacity the number of possible elements
+     */
+    public RandomizedIntSet(int capacity) {
+        elements = new int[capacity];
+        positions = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            positions[i] = -1;
+        }
+    }
+
+    /**
+     * Adds a new element to the set if it's not already present.
+     *
+     * @param data the new element to add
+     */
+    public void add(int data) {
+        if (contains(data)) {
+            return;
+        }
+        elements[size] = data;
+        positions[data] = size;
+        size++;
+    }
+
+    /**
+     * Returns whether a given element is contained within the set.
+     *
+     * @param data the element to check for
+     * @return whether the element could be found within the set
+     */
+    public boolean contains(int data) {
+        return positions[data] >= 0;
+    }
+
+    /**
+     * Removes an element from the set, if it's present.
+     *
+     * @param data the element to remove from the set
+     */
+    public void remove(int data) {
+        int position = positions[data];
+        if (position < 0) {
+            return;
+        }
+
+        // move the last element into the removed element's slot
+        int last = elements[--size];
+        elements[position] = last;
+        positions[last] = position;
+        positions[data] = -1;
+    }
+
+    /**
+     * Get a uniformly random element from the set.
+     *
+     * @return the random element
+     */
+    public int randomElement() {
+        if (size == 0) {
+            throw new IllegalArgumentException("Set is empty");
+        }
+        return elements[(int) (Math.random() * size)];
+    }
+
+    /**
+     * Get a uniformly random element from the set, using a given generator.
+     *
+     * @param random the generator to draw from
+     * @return the random element
+     */
+    public int randomElement(SplittableRandom random) {
+        if (size == 0) {
+            throw new IllegalArgumentException("Set is empty");
+        }
+        return elements[random.nextInt(size)];
+    }
+
+    /**
+     * Run a consumer for all elements in the set, in no particular order.
+     *
+     * @param action the consumer to be passed all elements
+     */
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Returns the number of elements in the set.
+     *
+     * @return the size of the set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the set is empty.
+     *
+     * @return whether the set is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
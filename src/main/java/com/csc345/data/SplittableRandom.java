@@ -0,0 +1,187 @@
+package com.csc345.data;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A fast, seedable pseudo-random number generator using the SplitMix64 algorithm.
+ *
+ * Unlike {@code Math.random()}, which shares one synchronized generator across the whole program,
+ * every instance has its own state, so algorithms running on different threads never contend,
+ * and the same seed always produces the same sequence. Instances are not thread-safe themselves:
+ * use {@code split()} to hand an independent generator to another thread.
+ */
+public class SplittableRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L; // odd approximation of 2^64 / phi
+    private static final double DOUBLE_UNIT = 0x1.0p-53; // 1.0 / 2^53
+
+    private static final AtomicLong defaultSeeds = new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    private long seed;
+    private final long gamma; // odd step added to the seed for every value
+
+    /**
+     * Creates a new generator from a given seed.
+     *
+     * @param seed the seed
+     */
+    public SplittableRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * Creates a new generator with a seed that's different for every call.
+     */
+    public SplittableRandom() {
+        this(newSeed());
+    }
+
+    /**
+     * Creates a new generator from a given seed and step.
+     *
+     * @param seed the seed
+     * @param gamma the step, which must be odd
+     */
+    private SplittableRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Returns a seed that's different for every call, for callers that don't need reproducible results.
+     *
+     * @return a new seed
+     */
+    public static long newSeed() {
+        return mix64(defaultSeeds.getAndAdd(2 * GOLDEN_GAMMA));
+    }
+
+    /**
+     * Creates a new generator whose values are independent of this one's. Also advances this generator.
+     *
+     * @return the new generator
+     */
+    public SplittableRandom split() {
+        return new SplittableRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    /**
+     * Returns a uniformly random long.
+     *
+     * @return the random long
+     */
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    /**
+     * Returns a uniformly random int.
+     *
+     * @return the random int
+     */
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    /**
+     * Returns a uniformly random int in the range {@code 0..bound-1}.
+     * Uses Lemire's multiply-shift method, which needs no division except in rare retries.
+     *
+     * @param bound the exclusive upper bound, which must be positive
+     * @return the random int
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        long product = (nextInt() & 0xFFFFFFFFL) * bound;
+        int low = (int) product;
+        if (Integer.compareUnsigned(low, bound) < 0) {
+            // reject the few products that would make smaller results more likely
+            int threshold = Integer.remainderUnsigned(-bound, bound);
+            while (Integer.compareUnsigned(low, threshold) < 0) {
+                product = (nextInt() & 0xFFFFFFFFL) * bound;
+                low = (int) product;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * Returns a random boolean, true or false with equal chance.
+     *
+     * @return the random boolean
+     */
+    public boolean nextBoolean() {
+        return nextInt() < 0;
+    }
+
+    /**
+     * Returns a uniformly random double in the range {@code [0, 1)}.
+     *
+     * @return the random double
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Advances the seed by one step.
+     *
+     * @return the new seed
+     */
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    /**
+     * Derives the seed for one of many generators from a shared seed and the generator's index,
+     * so work split into pieces can give every piece its own generator and still be reproducible.
+     * The shared seed is scrambled before the index is added, so nearby seeds don't line up with each other's
+     * indices the way they do with {@code seed ^ index}, where seed 43 index 0 is seed 42 index 1. The sum is
+     * scrambled again, since seeds that differ only by a multiple of the step produce overlapping sequences.
+     *
+     * @param seed the shared seed
+     * @param index index of the generator
+     * @return the derived seed
+     */
+    public static long derive(long seed, long index) {
+        return mix64(mix64(seed) + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * Scrambles all bits of a long into a well-distributed long.
+     *
+     * @param z the value to scramble
+     * @return the scrambled value
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Scrambles all bits of a long into a well-distributed int.
+     *
+     * @param z the value to scramble
+     * @return the scrambled value
+     */
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * Turns a seed into an odd step with enough bit transitions to step well.
+     *
+     * @param z the seed to derive the step from
+     * @return the step
+     */
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return (transitions < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -121,7 +121,7 @@ public class UnionFind<E> {
      * @return the number of sets
      */
     public int numberOfSets() {
-        assert size >= 1 && size <= parent.keySet().size();
+        assert size >= 1 && size <= parent.size();
         return size;
     }
     
@@ -0,0 +1,9 @@
+package com.csc345.data.functionals;
+
+/**
+ * Represents a function that accepts one primitive int argument and produces a boolean result.
+ */
+@FunctionalInterface
+public interface IntCondition {
+    boolean test(int data);
+}
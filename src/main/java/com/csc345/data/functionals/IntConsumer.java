@@ -0,0 +1,9 @@
+package com.csc345.data.functionals;
+
+/**
+ * Represents a function that consumes one primitive int argument.
+ */
+@FunctionalInterface
+public interface IntConsumer {
+    void accept(int data);
+}
@@ -0,0 +1,9 @@
+package com.csc345.data.functionals;
+
+/**
+ * Represents a function that accepts two primitive int arguments and produces a primitive double result.
+ */
+@FunctionalInterface
+public interface IntIntToDoubleFunction {
+    double apply(int t, int u);
+}
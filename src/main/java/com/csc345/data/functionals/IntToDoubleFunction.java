@@ -0,0 +1,9 @@
+package com.csc345.data.functionals;
+
+/**
+ * Represents a function that accepts one primitive int argument and produces a primitive double result.
+ */
+@FunctionalInterface
+public interface IntToDoubleFunction {
+    double apply(int t);
+}
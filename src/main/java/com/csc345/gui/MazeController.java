@@ -39,6 +39,8 @@ public class MazeController extends ToolBar {
     private static final String SET_START_END_BUTTON_LABEL = "Set Start/End";
 
     private static final String ANIMATE_CHECKBOX_LABEL = "Animate";
+    private static final String STEPS_PER_FRAME_FIELD_LABEL = "Steps/Frame";
+    private static final int DEFAULT_STEPS_PER_FRAME = 1;
 
     private static final double FIELD_WIDTH = 60;
     private static final double GRID_HGAP_SIZE = 15;
@@ -52,10 +54,12 @@ public class MazeController extends ToolBar {
 
     private ChoiceBox<MazeAlgorithmType> generateType;
     private CheckBox generateAnimate;
+    private IntegerField generateStepsPerFrame;
     private Button generate;
 
     private ChoiceBox<SolveAlgorithmType> solveType;
     private CheckBox solveAnimate;
+    private IntegerField solveStepsPerFrame;
     private Button solve;
     private Button clearSolution;
 
@@ -88,7 +92,7 @@ public class MazeController extends ToolBar {
      */
     public void setGenerateButtonHandler(GenerateButtonHandler handler) {
         generate.setOnAction(e -> handler.handle(rows.getInt(), cols.getInt(), cellWallRatio.getDouble(),
-                generateType.getValue(), generateAnimate.isSelected()));
+                generateType.getValue(), generateAnimate.isSelected(), generateStepsPerFrame.getInt()));
     }
 
     /**
@@ -97,7 +101,8 @@ public class MazeController extends ToolBar {
      * @param handler the handler to set
      */
     public void setSolveButtonHandler(SolveButtonHandler handler) {
-        solve.setOnAction(e -> handler.handle(solveType.getValue(), solveAnimate.isSelected()));
+        solve.setOnAction(e -> handler.handle(solveType.getValue(), solveAnimate.isSelected(),
+                solveStepsPerFrame.getInt()));
     }
 
     /**
@@ -157,6 +162,10 @@ public class MazeController extends ToolBar {
         solveAnimate = new CheckBox(ANIMATE_CHECKBOX_LABEL);
         solveAnimate.setSelected(true);
 
+        solveStepsPerFrame = new IntegerField(DEFAULT_STEPS_PER_FRAME);
+        solveStepsPerFrame.setPrefWidth(FIELD_WIDTH);
+        HBox solveStepsBox = makeStepsPerFrameBox(solveStepsPerFrame);
+
         solve = new Button(SOLVE_BUTTON_LABEL);
 
         clearSolution = new Button(CLEAR_SOLUTION_BUTTON_LABEL);
@@ -170,6 +179,8 @@ public class MazeController extends ToolBar {
         solvePanel.add(solve, 2, 0);
         solvePanel.add(clearSolution, 3, 0);
 
+        solvePanel.add(solveStepsBox, 4, 0);
+
         startPosition = new ChoiceBox<>();
         HBox startBox = makePositionBox(START_FIELD_LABEL, startPosition, MazePosition.TOP_LEFT);
 
@@ -221,6 +232,10 @@ public class MazeController extends ToolBar {
         generateAnimate = new CheckBox(ANIMATE_CHECKBOX_LABEL);
         generateAnimate.setSelected(true);
 
+        generateStepsPerFrame = new IntegerField(DEFAULT_STEPS_PER_FRAME);
+        generateStepsPerFrame.setPrefWidth(FIELD_WIDTH);
+        HBox generateStepsBox = makeStepsPerFrameBox(generateStepsPerFrame);
+
         GridPane mazePanel = new GridPane();
 
         mazePanel.add(rowsLabel, 0, 0);
@@ -238,6 +253,8 @@ public class MazeController extends ToolBar {
 
         mazePanel.add(generate, 4, 1);
 
+        mazePanel.add(generateStepsBox, 5, 0, 1, 2);
+
         mazePanel.setHgap(GRID_HGAP_SIZE);
         mazePanel.setVgap(GRID_VGAP_SIZE);
         mazePanel.setAlignment(Pos.CENTER);
@@ -247,6 +264,20 @@ public class MazeController extends ToolBar {
         return mazePanel;
     }
 
+    /**
+     * Creates a labeled box for a steps-per-frame field.
+     * 
+     * @param stepsPerFrame the steps-per-frame field
+     * @return the steps-per-frame box
+     */
+    private HBox makeStepsPerFrameBox(IntegerField stepsPerFrame) {
+        Label stepsLabel = new Label(STEPS_PER_FRAME_FIELD_LABEL);
+        HBox stepsBox = new HBox(stepsLabel, stepsPerFrame);
+        stepsBox.setAlignment(Pos.CENTER);
+        stepsBox.setSpacing(GRID_HGAP_SIZE / 2);
+        return stepsBox;
+    }
+
     private HBox makePositionBox(String label, ChoiceBox<MazePosition> position, MazePosition defaultPosition) {
         position.getItems().addAll(MazePosition.values());
         position.setValue(defaultPosition);
@@ -296,12 +327,12 @@ public class MazeController extends ToolBar {
 
     @FunctionalInterface
     public interface GenerateButtonHandler {
-        void handle(int rows, int cols, double cellWallRatio, MazeAlgorithmType type, boolean animate);
+        void handle(int rows, int cols, double cellWallRatio, MazeAlgorithmType type, boolean animate, int stepsPerFrame);
     }
 
     @FunctionalInterface
     public interface SolveButtonHandler {
-        void handle(SolveAlgorithmType type, boolean animate);
+        void handle(SolveAlgorithmType type, boolean animate, int stepsPerFrame);
     }
 
     @FunctionalInterface
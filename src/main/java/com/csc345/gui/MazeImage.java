@@ -1,10 +1,9 @@
 package com.csc345.gui;
 
-import com.csc345.data.LinkedListSet;
 import com.csc345.data.List;
 import com.csc345.data.functionals.Function;
 import com.csc345.core.Algorithm;
-import com.csc345.core.Node;
+import com.csc345.core.MazeGrid;
 import com.csc345.core.State;
 
 import javafx.scene.Group;
@@ -182,63 +181,113 @@ public class MazeImage extends Group {
      * @param algorithm The algorithm to update the maze with
      */
     public void update(Algorithm algorithm) {
-        update(algorithm.getNodes(), algorithm.getStates());
+        update(algorithm.getGrid(), algorithm);
     }
 
     /**
-     * Draws the given maze nodes and states on the maze image.
+     * Draws the given maze grid on the maze image, with every cell drawn as visited.
      * 
-     * @param nodes The nodes to update the maze with
-     * @param states The states to update the maze with
+     * @param grid The grid to update the maze with
      */
-    public void update(Node[] nodes, State[] states) {
-        int id = 0;
+    public void update(MazeGrid grid) {
+        update(grid, null);
+    }
 
-        if (nodes == null) {
-            return;
-        }
+    /**
+     * Draws only the cells of the given algorithm that changed since the last time its changes were drained.
+     * The algorithm must track its changes, and the maze image must already show its state from before them.
+     * 
+     * @param algorithm The algorithm to update the maze with
+     */
+    public void updateChanges(Algorithm algorithm) {
+        MazeGrid grid = algorithm.getGrid();
+
+        algorithm.drainChanges(id -> {
+            drawCell(grid, algorithm, id);
 
-        final State[] mazeStates = new State[nodes.length];
-        for (int i = 0; i < nodes.length; i++) {
-            mazeStates[i] = (states != null) ? states[i] : State.VISITED;
+            // the west and north neighbors own the walls on this cell's other sides, and color them by this cell's state
+            int westId = grid.neighbor(id, MazeGrid.WEST);
+            if (westId >= 0) {
+                drawCell(grid, algorithm, westId);
+            }
+            int northId = grid.neighbor(id, MazeGrid.NORTH);
+            if (northId >= 0) {
+                drawCell(grid, algorithm, northId);
+            }
+        });
+
+        updateStartEnd();
+    }
+
+    /**
+     * Draws the given maze grid on the maze image, reading each cell's state straight from an algorithm.
+     * 
+     * @param grid The grid to update the maze with
+     * @param algorithm The algorithm whose states to draw, or null to draw every cell as visited
+     */
+    private void update(MazeGrid grid, Algorithm algorithm) {
+        if (grid == null) {
+            return;
         }
 
         // loop through all cells, coloring them and their walls
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                IntPos topLeft = getCellTopLeftPos(id);
-                int cellArgb = MazeColor.fromState(mazeStates[id]).argb;
-
-                updateCell(cellArgb, topLeft);
-
-                LinkedListSet<Integer> connections = nodes[id].connections;
-                LinkedListSet<Integer> neighbors = nodes[id].neighbors;
-
-                Function<Integer, Integer> getWallColor = neighborId -> {
-                    if (connections.contains(neighborId)) {
-                        return (mazeStates[neighborId] == State.UNVISITED) ? MazeColor.EMPTY.argb : cellArgb;
-                    } else {
-                        return MazeColor.EMPTY.argb;
-                    }
-                };
-
-                int rightId = id + 1;
-                if (col < cols - 1 && neighbors.contains(rightId)) {
-                    updateWall(getWallColor.apply(rightId), topLeft, Side.RIGHT);
-                }
-
-                int bottomId = id + cols;
-                if (row < rows - 1 && neighbors.contains(bottomId)) {
-                    updateWall(getWallColor.apply(bottomId), topLeft, Side.BOTTOM);
-                }
-
-                id++;
-            }
+        for (int id = 0; id < rows * cols; id++) {
+            drawCell(grid, algorithm, id);
         }
         
         updateStartEnd();
     }
 
+    /**
+     * Draws a cell and the walls on its east and south sides.
+     * 
+     * @param grid The grid that holds the maze
+     * @param algorithm The algorithm whose states to draw, or null to draw every cell as visited
+     * @param id The id of the cell
+     */
+    private void drawCell(MazeGrid grid, Algorithm algorithm, int id) {
+        IntPos topLeft = getCellTopLeftPos(id);
+        int cellArgb = MazeColor.fromState(stateOf(algorithm, id)).argb;
+
+        updateCell(cellArgb, topLeft);
+
+        if (id % cols < cols - 1) {
+            updateWall(getWallColor(grid, algorithm, id, MazeGrid.EAST, cellArgb), topLeft, Side.RIGHT);
+        }
+
+        if (id / cols < rows - 1) {
+            updateWall(getWallColor(grid, algorithm, id, MazeGrid.SOUTH, cellArgb), topLeft, Side.BOTTOM);
+        }
+    }
+
+    /**
+     * Returns the color of a cell's wall. Open walls take the cell's color, unless they lead to an unvisited cell.
+     * 
+     * @param grid The grid that holds the maze
+     * @param algorithm The algorithm whose states to draw, or null if every cell is visited
+     * @param id The id of the cell
+     * @param direction The direction of the wall
+     * @param cellArgb The color of the cell
+     * @return The argb color of the wall
+     */
+    private int getWallColor(MazeGrid grid, Algorithm algorithm, int id, int direction, int cellArgb) {
+        if (!grid.isOpen(id, direction)) {
+            return MazeColor.EMPTY.argb;
+        }
+        return (stateOf(algorithm, grid.neighbor(id, direction)) == State.UNVISITED) ? MazeColor.EMPTY.argb : cellArgb;
+    }
+
+    /**
+     * Returns the state to draw a cell with.
+     * 
+     * @param algorithm The algorithm whose states to draw, or null if every cell is visited
+     * @param id The id of the cell
+     * @return The state of the cell
+     */
+    private static State stateOf(Algorithm algorithm, int id) {
+        return (algorithm != null) ? algorithm.getState(id) : State.VISITED;
+    }
+
     /**
      * Draws new start and end positions on the maze.
      * 
@@ -13,6 +13,7 @@ public class MazeTimer extends AnimationTimer {
     private MazeImage mazeImage;
     private MazeAlgorithm mazeAlgorithm;
     private boolean animate;
+    private int stepsPerFrame;
     private SolveTimer solveTimer;
 
     private boolean solved = false;
@@ -23,12 +24,14 @@ public class MazeTimer extends AnimationTimer {
      * @param mazeImage the MazeImage to animate
      * @param mazeAlgorithm the MazeAlgorithm to animate
      * @param animate whether or not to animate the maze generation
+     * @param stepsPerFrame number of algorithm steps to run per animation frame
      * @param solveTimer the SolveTimer to start when the maze is finished, or null if no SolveTimer should be started
      */
-    public MazeTimer(MazeImage mazeImage, MazeAlgorithm mazeAlgorithm, boolean animate, SolveTimer solveTimer) {
+    public MazeTimer(MazeImage mazeImage, MazeAlgorithm mazeAlgorithm, boolean animate, int stepsPerFrame, SolveTimer solveTimer) {
         this.mazeImage = mazeImage;
         this.mazeAlgorithm = mazeAlgorithm;
         this.animate = animate;
+        this.stepsPerFrame = stepsPerFrame;
         this.solveTimer = solveTimer;
     }
 
@@ -38,6 +41,10 @@ public class MazeTimer extends AnimationTimer {
     @Override
     public void start() {
         if (animate) {
+            // draw everything once, then only the cells each step changes
+            mazeImage.update(mazeAlgorithm);
+            mazeImage.redraw();
+            mazeAlgorithm.trackChanges();
             super.start();
         } else {
             this.stop();
@@ -48,19 +55,17 @@ public class MazeTimer extends AnimationTimer {
     }
 
     /**
-     * Handles the animation of the maze algorithm by looping once.
+     * Handles the animation of the maze algorithm by looping a frame's worth of steps and drawing the cells that changed.
+     * The steps run on the JavaFX thread, so the maze is never drawn while the algorithm is changing it.
      */
     @Override
     public void handle(long now) {
-        mazeImage.update(mazeAlgorithm);
+        mazeAlgorithm.loopMany(stepsPerFrame);
+        mazeImage.updateChanges(mazeAlgorithm);
         mazeImage.redraw();
         if (mazeAlgorithm.isFinished()) {
             this.stop();
-            return;
         }
-        new Thread(() -> {
-            mazeAlgorithm.loopOnce();
-        }).start();
     }
 
     /**
@@ -76,6 +81,15 @@ public class MazeTimer extends AnimationTimer {
             solveTimer.start();
     }
 
+    /**
+     * Returns whether the maze algorithm keeps changing the maze until the timer is stopped.
+     *
+     * @return true if the algorithm never finishes, false otherwise
+     */
+    public boolean isEndless() {
+        return mazeAlgorithm.isEndless();
+    }
+
     public boolean isSolved() {
         return solved;
     }
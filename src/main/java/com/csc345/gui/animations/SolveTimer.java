@@ -13,6 +13,7 @@ public class SolveTimer extends AnimationTimer {
     private MazeImage mazeImage;
     private SolveAlgorithm solveAlgorithm;
     private boolean animate;
+    private int stepsPerFrame;
 
     private PathTimer pathTimer;
 
@@ -22,11 +23,13 @@ public class SolveTimer extends AnimationTimer {
      * @param mazeImage the MazeImage to animate
      * @param solveAlgorithm the SolveAlgorithm to animate
      * @param animate whether or not to animate the solution
+     * @param stepsPerFrame number of algorithm steps to run per animation frame
      */
-    public SolveTimer(MazeImage mazeImage, SolveAlgorithm solveAlgorithm, boolean animate) {
+    public SolveTimer(MazeImage mazeImage, SolveAlgorithm solveAlgorithm, boolean animate, int stepsPerFrame) {
         this.mazeImage = mazeImage;
         this.solveAlgorithm = solveAlgorithm;
         this.animate = animate;
+        this.stepsPerFrame = stepsPerFrame;
     }
 
     /**
@@ -35,6 +38,10 @@ public class SolveTimer extends AnimationTimer {
     @Override
     public void start() {
         if (animate) {
+            // draw everything once, then only the cells each step changes
+            mazeImage.update(solveAlgorithm);
+            redraw();
+            solveAlgorithm.trackChanges();
             super.start();
         } else {
             solveAlgorithm.finishImmediately();
@@ -55,20 +62,18 @@ public class SolveTimer extends AnimationTimer {
     }
 
     /**
-     * Handles the animation of the solve algorithm by looping once
+     * Handles the animation of the solve algorithm by looping a frame's worth of steps and drawing the cells that changed.
+     * The steps run on the JavaFX thread, so the maze is never drawn while the algorithm is changing it.
      */
     @Override
     public void handle(long now) {
-        mazeImage.update(solveAlgorithm);
+        solveAlgorithm.loopMany(stepsPerFrame);
+        mazeImage.updateChanges(solveAlgorithm);
         if (solveAlgorithm.isFinished()) {
             this.stop();
             return;
         }
         redraw();
-
-        new Thread((() -> {
-            solveAlgorithm.loopOnce();
-        })).start();
     }
 
     /**